@@ -0,0 +1,88 @@
+package org.jabref.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.WeakHashMap;
+
+import org.jabref.logic.bst.BibtexNameFormatter;
+import org.jabref.logic.importer.AuthorListParser;
+import org.jabref.logic.layout.format.AuthorAbbreviator;
+import org.jabref.model.entry.AuthorList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Formats the author lists of a synthetic library from several threads, as done by previews and exports. As baseline,
+ * the author lists are parsed through a synchronized {@link WeakHashMap}, which was used to cache them before.
+ */
+@State(Scope.Benchmark)
+@Threads(8)
+public class AuthorListBenchmark {
+
+    private static final String[] FIRST_NAMES = {"Anna", "Bob", "Carla", "D.", "Emil", "F. G.", "Hanna", "Ivan"};
+    private static final String[] LAST_NAMES = {"Smith", "M{\\\"u}ller", "Garcia", "von Kowalski", "Nguyen",
+            "Rossi", "Tanaka", "de la Silva", "Nov{\\'a}k", "Andersson", "Dubois", "Papadopoulos"};
+    private static final int NUMBER_OF_AUTHOR_LISTS = 20_000;
+
+    private final Map<String, AuthorList> weakHashMapCache = Collections.synchronizedMap(new WeakHashMap<>());
+    private final AuthorAbbreviator authorAbbreviator = new AuthorAbbreviator();
+    private List<String> authorLists;
+
+    @Setup
+    public void init() {
+        Random random = new Random(42);
+        authorLists = new ArrayList<>(NUMBER_OF_AUTHOR_LISTS);
+        for (int i = 0; i < NUMBER_OF_AUTHOR_LISTS; i++) {
+            List<String> authors = new ArrayList<>();
+            for (int author = 0; author <= random.nextInt(4); author++) {
+                authors.add(LAST_NAMES[random.nextInt(LAST_NAMES.length)] + ", " + FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]);
+            }
+            authorLists.add(String.join(" and ", authors));
+        }
+    }
+
+    private AuthorList parseWithWeakHashMap(String authors) {
+        AuthorList authorList = weakHashMapCache.get(authors);
+        if (authorList == null) {
+            authorList = new AuthorListParser().parse(authors);
+            weakHashMapCache.put(authors, authorList);
+        }
+        return authorList;
+    }
+
+    @Benchmark
+    public void formatWithWeakHashMap(Blackhole blackhole) {
+        for (String authors : authorLists) {
+            blackhole.consume(parseWithWeakHashMap(authors).latexFree().getAsLastFirstNamesWithAnd(true));
+        }
+    }
+
+    @Benchmark
+    public void formatWithAuthorListCache(Blackhole blackhole) {
+        for (String authors : authorLists) {
+            blackhole.consume(AuthorList.parse(authors).latexFree().getAsLastFirstNamesWithAnd(true));
+        }
+    }
+
+    @Benchmark
+    public void formatWithLayoutFormatter(Blackhole blackhole) {
+        for (String authors : authorLists) {
+            blackhole.consume(authorAbbreviator.format(authors));
+        }
+    }
+
+    @Benchmark
+    public void formatWithBstNameFormatter(Blackhole blackhole) {
+        for (String authors : authorLists) {
+            blackhole.consume(BibtexNameFormatter.formatName(authors, 1, "{vv~}{ll}{, f.}", null));
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.jabref.benchmarks;
 import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Random;
@@ -11,12 +12,12 @@ import java.util.stream.Collectors;
 import org.jabref.gui.Globals;
 import org.jabref.logic.exporter.BibWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
-import org.jabref.logic.exporter.SavePreferences;
 import org.jabref.logic.formatter.bibtexfields.HtmlToLatexFormatter;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.BibtexParser;
 import org.jabref.logic.layout.format.HTMLChars;
 import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
+import org.jabref.logic.search.DatabaseSearcher;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.logic.util.OS;
 import org.jabref.model.database.BibDatabase;
@@ -38,6 +39,7 @@ import org.jabref.preferences.JabRefPreferences;
 
 import org.openjdk.jmh.Main;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -57,8 +59,18 @@ public class Benchmarks {
     public void init() throws Exception {
         Globals.prefs = JabRefPreferences.getInstance();
 
+        database.insertEntries(createEntries(1000));
+        bibtexString = getOutputWriter(database).toString();
+
+        latexConversionString = "{A} \\textbf{bold} approach {\\it to} ${{\\Sigma}}{\\Delta}$ modulator \\textsuperscript{2} \\$";
+
+        htmlConversionString = "<b>&Ouml;sterreich</b> &#8211; &amp; characters &#x2aa2; <i>italic</i>";
+    }
+
+    private static List<BibEntry> createEntries(int numberOfEntries) {
         Random randomizer = new Random();
-        for (int i = 0; i < 1000; i++) {
+        List<BibEntry> entries = new ArrayList<>(numberOfEntries);
+        for (int i = 0; i < numberOfEntries; i++) {
             BibEntry entry = new BibEntry();
             entry.setCitationKey("id" + i);
             entry.setField(StandardField.TITLE, "This is my title " + i);
@@ -67,20 +79,15 @@ public class Benchmarks {
             entry.setField(StandardField.KEYWORDS, "testkeyword");
             entry.setField(StandardField.YEAR, "1" + i);
             entry.setField(new UnknownField("rnd"), "2" + randomizer.nextInt());
-            database.insertEntry(entry);
+            entries.add(entry);
         }
-
-        bibtexString = getOutputWriter().toString();
-
-        latexConversionString = "{A} \\textbf{bold} approach {\\it to} ${{\\Sigma}}{\\Delta}$ modulator \\textsuperscript{2} \\$";
-
-        htmlConversionString = "<b>&Ouml;sterreich</b> &#8211; &amp; characters &#x2aa2; <i>italic</i>";
+        return entries;
     }
 
-    private StringWriter getOutputWriter() throws IOException {
+    private static StringWriter getOutputWriter(BibDatabase database) throws IOException {
         StringWriter outputWriter = new StringWriter();
         BibWriter bibWriter = new BibWriter(outputWriter, OS.NEWLINE);
-        BibtexDatabaseWriter databaseWriter = new BibtexDatabaseWriter(bibWriter, mock(GeneralPreferences.class), mock(SavePreferences.class), new BibEntryTypesManager());
+        BibtexDatabaseWriter databaseWriter = new BibtexDatabaseWriter(bibWriter, mock(GeneralPreferences.class), Globals.prefs.getSavePreferences(), new BibEntryTypesManager());
         databaseWriter.savePartOfDatabase(new BibDatabaseContext(database, new MetaData()), database.getEntries());
         return outputWriter;
     }
@@ -91,9 +98,20 @@ public class Benchmarks {
         return parser.parse(new StringReader(bibtexString));
     }
 
+    @Benchmark
+    public ParserResult parseLarge(LargeBibtexInput input) throws IOException {
+        BibtexParser parser = new BibtexParser(Globals.prefs.getImportFormatPreferences(), new DummyFileUpdateMonitor());
+        return parser.parse(new StringReader(input.bibtexString));
+    }
+
     @Benchmark
     public String write() throws Exception {
-        return getOutputWriter().toString();
+        return getOutputWriter(database).toString();
+    }
+
+    @Benchmark
+    public String writeLarge(LargeDatabase largeDatabase) throws Exception {
+        return getOutputWriter(largeDatabase.database).toString();
     }
 
     @Benchmark
@@ -110,6 +128,12 @@ public class Benchmarks {
         return database.getEntries().parallelStream().filter(searchQuery::isMatch).collect(Collectors.toList());
     }
 
+    @Benchmark
+    public List<BibEntry> indexedSearch() {
+        SearchQuery searchQuery = new SearchQuery("Journal Title 500", EnumSet.noneOf(SearchFlags.class));
+        return new DatabaseSearcher(searchQuery, database).getMatches();
+    }
+
     @Benchmark
     public BibDatabaseMode inferBibDatabaseMode() {
         return BibDatabaseModeDetection.inferMode(database);
@@ -139,6 +163,40 @@ public class Benchmarks {
         return group.containsAll(database.getEntries());
     }
 
+    @State(Scope.Benchmark)
+    public static class LargeBibtexInput {
+
+        @Param({"10000", "100000"})
+        private int numberOfEntries;
+
+        private String bibtexString;
+
+        @Setup
+        public void init() throws IOException {
+            Globals.prefs = JabRefPreferences.getInstance();
+
+            BibDatabase database = new BibDatabase();
+            database.insertEntries(createEntries(numberOfEntries));
+            bibtexString = getOutputWriter(database).toString();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LargeDatabase {
+
+        @Param({"10000", "100000"})
+        private int numberOfEntries;
+
+        private final BibDatabase database = new BibDatabase();
+
+        @Setup
+        public void init() {
+            Globals.prefs = JabRefPreferences.getInstance();
+
+            database.insertEntries(createEntries(numberOfEntries));
+        }
+    }
+
     public static void main(String[] args) throws IOException, RunnerException {
         Main.main(args);
     }
@@ -0,0 +1,76 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jabref.logic.bst.VM;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.antlr.runtime.RecognitionException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Generates the bibliography of a synthetic library with the IEEEtran style shipped with JabRef
+ */
+@State(Scope.Benchmark)
+public class BstBenchmark {
+
+    private static final String[] LAST_NAMES = {"Smith", "M{\\\"u}ller", "Garcia", "von Kowalski", "Nguyen", "Rossi",
+            "Tanaka", "de la Silva", "Nov{\\'a}k", "Andersson", "Dubois", "Papadopoulos"};
+    private static final String[] WORDS = {"analysis", "{B}ayesian", "compiler", "distributed", "efficient", "formal",
+            "graph", "heuristic", "incremental", "{J}ava", "kernel", "learning", "memory", "network", "optimal"};
+
+    @Param({"1000", "10000"})
+    private int numberOfEntries;
+
+    private List<BibEntry> entries;
+    private VM vm;
+
+    @Setup
+    public void init() throws IOException, RecognitionException {
+        try (InputStream bst = BstBenchmark.class.getResourceAsStream("/bst/IEEEtran.bst")) {
+            vm = new VM(new String(bst.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        Random random = new Random(42);
+        entries = new ArrayList<>(numberOfEntries);
+        for (int i = 0; i < numberOfEntries; i++) {
+            StringBuilder title = new StringBuilder();
+            for (int word = 0; word < 6; word++) {
+                title.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+            }
+            BibEntry entry = new BibEntry((i % 2) == 0 ? StandardEntryType.Article : StandardEntryType.InProceedings)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.AUTHOR, getName(random) + " and " + getName(random) + " and " + getName(random))
+                    .withField(StandardField.TITLE, title.toString().trim())
+                    .withField(StandardField.YEAR, String.valueOf(1970 + random.nextInt(50)))
+                    .withField(StandardField.PAGES, (i % 100) + "--" + ((i % 100) + 10));
+            if (entry.getType() == StandardEntryType.Article) {
+                entry.setField(StandardField.JOURNAL, "Journal of " + WORDS[random.nextInt(WORDS.length)]);
+                entry.setField(StandardField.VOLUME, String.valueOf(random.nextInt(50)));
+            } else {
+                entry.setField(StandardField.BOOKTITLE, "Proceedings of the Conference on " + WORDS[random.nextInt(WORDS.length)]);
+            }
+            entries.add(entry);
+        }
+    }
+
+    private static String getName(Random random) {
+        return LAST_NAMES[random.nextInt(LAST_NAMES.length)] + ", " + (char) ('A' + random.nextInt(26)) + ".";
+    }
+
+    @Benchmark
+    public String generateBibliography() {
+        return vm.run(entries);
+    }
+}
@@ -0,0 +1,101 @@
+package org.jabref.benchmarks;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.logic.shared.DBMSProcessor;
+import org.jabref.logic.shared.DatabaseConnection;
+import org.jabref.logic.shared.MySQLProcessor;
+import org.jabref.logic.shared.exception.OfflineLockException;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Writes entries to a shared database. An in-memory H2 database in MySQL mode stands in for the database server.
+ */
+@State(Scope.Benchmark)
+public class DBMSProcessorBenchmark {
+
+    @Param({"100", "1000"})
+    private int numberOfEntries;
+
+    private Connection connection;
+    private DBMSProcessor processor;
+    private List<BibEntry> entries;
+    private int revision;
+
+    @Setup
+    public void init() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:jabref-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        DatabaseConnection databaseConnection = mock(DatabaseConnection.class);
+        when(databaseConnection.getConnection()).thenReturn(connection);
+        processor = new MySQLProcessor(databaseConnection);
+        processor.setupSharedDatabase();
+    }
+
+    @Setup(Level.Invocation)
+    public void createEntries() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DELETE FROM `FIELD`");
+            statement.executeUpdate("DELETE FROM `ENTRY`");
+        }
+
+        entries = new ArrayList<>(numberOfEntries);
+        for (int i = 0; i < numberOfEntries; i++) {
+            BibEntry entry = new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.AUTHOR, "Author " + i + " and Author " + (i + 1))
+                    .withField(StandardField.TITLE, "Title of entry " + i)
+                    .withField(StandardField.JOURNAL, "Journal " + (i % 10))
+                    .withField(StandardField.YEAR, String.valueOf(1900 + (i % 100)))
+                    .withField(StandardField.PAGES, i + "--" + (i + 10));
+            entries.add(entry);
+        }
+        processor.insertEntries(entries);
+        for (BibEntry entry : entries) {
+            // the versions of the local entries are never behind the shared ones
+            entry.getSharedBibEntryData().setVersion(Integer.MAX_VALUE);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void insertEntries() {
+        List<BibEntry> copies = new ArrayList<>(entries.size());
+        for (BibEntry entry : entries) {
+            copies.add((BibEntry) entry.clone());
+        }
+        processor.insertEntries(copies);
+    }
+
+    @Benchmark
+    public void updateEntries() throws OfflineLockException, SQLException {
+        revision++;
+        for (BibEntry entry : entries) {
+            entry.setField(StandardField.TITLE, "Revised title " + revision);
+            entry.setField(StandardField.NOTE, "Note " + revision);
+            entry.clearField(StandardField.PAGES);
+            processor.updateEntry(entry);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.jabref.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jabref.logic.database.DuplicateFinder;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Searches a synthetic library for duplicates. Every twentieth entry is a slightly modified copy of a previous one.
+ */
+@State(Scope.Benchmark)
+public class DuplicateFinderBenchmark {
+
+    private static final String[] WORDS = {"analysis", "bayesian", "compiler", "distributed", "efficient", "formal",
+            "graph", "heuristic", "incremental", "java", "kernel", "learning", "memory", "network", "optimal", "parallel",
+            "query", "robust", "scalable", "type", "unified", "verification", "wireless", "xml", "yield", "zero"};
+    private static final String[] LAST_NAMES = {"Smith", "Müller", "Garcia", "Kowalski", "Nguyen", "Rossi", "Tanaka",
+            "Silva", "Novak", "Andersson", "Dubois", "Papadopoulos", "Ivanov", "Kim", "Okafor", "Schmidt"};
+
+    @Param({"10000", "50000", "200000"})
+    private int numberOfEntries;
+
+    private List<BibEntry> entries;
+    private DuplicateFinder duplicateFinder;
+
+    @Setup
+    public void init() {
+        Random random = new Random(42);
+        entries = new ArrayList<>(numberOfEntries);
+        for (int i = 0; i < numberOfEntries; i++) {
+            if ((i > 0) && ((i % 20) == 0)) {
+                BibEntry original = entries.get(random.nextInt(i));
+                BibEntry copy = (BibEntry) original.clone();
+                copy.setField(StandardField.TITLE, original.getField(StandardField.TITLE).orElse("") + "s");
+                entries.add(copy);
+                continue;
+            }
+
+            StringBuilder title = new StringBuilder();
+            for (int word = 0; word < 6; word++) {
+                title.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+            }
+            title.append(i);
+            entries.add(new BibEntry(StandardEntryType.Article)
+                    .withField(StandardField.AUTHOR, "A. " + getLastName(random) + " and B. " + getLastName(random))
+                    .withField(StandardField.TITLE, title.toString())
+                    .withField(StandardField.JOURNAL, "Journal of " + WORDS[random.nextInt(WORDS.length)])
+                    .withField(StandardField.YEAR, String.valueOf(1970 + random.nextInt(50))));
+        }
+        duplicateFinder = new DuplicateFinder(new BibEntryTypesManager());
+    }
+
+    private static String getLastName(Random random) {
+        return LAST_NAMES[random.nextInt(LAST_NAMES.length)] + "-" + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+
+    @Benchmark
+    public List<List<BibEntry>> findDuplicates() {
+        return duplicateFinder.findDuplicates(entries, BibDatabaseMode.BIBTEX);
+    }
+}
@@ -0,0 +1,104 @@
+package org.jabref.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.strings.LatexToUnicodeAdapter;
+
+import com.github.tomtung.latex2unicode.LaTeX2Unicode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Converts the field values of a synthetic library to Unicode. As in real libraries, few journals, publishers and
+ * authors occur in many entries, and most values contain no LaTeX at all. In contrast to
+ * {@link Benchmarks#latexToUnicodeConversion()}, which converts a single string, this measures the effect of caching
+ * conversions across entries.
+ */
+@State(Scope.Benchmark)
+public class LatexToUnicodeBenchmark {
+
+    private static final String[] JOURNALS = {"Journal of Applied Physics", "IEEE Transactions on Software Engineering",
+            "Physical Review Letters", "Zeitschrift f{\\\"u}r Naturforschung", "Annales de l'Institut Henri Poincar{\\'e}",
+            "Journal of the {ACM}", "Communications of the {ACM}", "Nature", "Science", "Acta Mathematica"};
+    private static final String[] PUBLISHERS = {"Springer", "Elsevier", "{IEEE} Press", "Addison-Wesley",
+            "Cambridge University Press", "Wiley {\\&} Sons", "Presses Universitaires de France"};
+    private static final String[] LAST_NAMES = {"Smith", "M{\\\"u}ller", "Garc{\\'\\i}a", "Kowalski", "Nguyen",
+            "Rossi", "Tanaka", "Silva", "Nov{\\'a}k", "Andersson", "Dubois", "Papadopoulos", "Ivanov", "Kim",
+            "Okafor", "Schr{\\\"o}dinger"};
+    private static final String[] WORDS = {"analysis", "{B}ayesian", "compiler", "distributed", "efficient",
+            "formal", "graph", "heuristic", "incremental", "{J}ava", "kernel", "learning", "memory", "network",
+            "optimal", "parallel", "$\\alpha$-stable", "robust", "scalable", "type"};
+
+    @Param({"10000", "100000"})
+    private int numberOfEntries;
+
+    private List<String> fieldValues;
+
+    @Setup
+    public void init() {
+        Random random = new Random(42);
+        fieldValues = new ArrayList<>();
+        for (int i = 0; i < numberOfEntries; i++) {
+            // Values are skewed towards the first elements, like the popularity of journals and authors
+            fieldValues.add(getSkewed(JOURNALS, random));
+            fieldValues.add(getSkewed(PUBLISHERS, random));
+            fieldValues.add(getSkewed(LAST_NAMES, random) + ", A. and " + getSkewed(LAST_NAMES, random) + ", B.");
+            fieldValues.add(String.valueOf(1950 + random.nextInt(70)));
+            fieldValues.add(random.nextInt(500) + "--" + random.nextInt(500));
+
+            StringBuilder title = new StringBuilder();
+            for (int word = 0; word < 6; word++) {
+                title.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+            }
+            fieldValues.add(title.append(i).toString());
+        }
+    }
+
+    private static String getSkewed(String[] values, Random random) {
+        double uniform = random.nextDouble();
+        return values[(int) (uniform * uniform * values.length)];
+    }
+
+    @Benchmark
+    public void convertWithoutCache(Blackhole blackhole) {
+        for (String value : fieldValues) {
+            blackhole.consume(LaTeX2Unicode.convert(value));
+        }
+    }
+
+    @Benchmark
+    public void convertWithCache(Blackhole blackhole) {
+        for (String value : fieldValues) {
+            blackhole.consume(LatexToUnicodeAdapter.format(value));
+        }
+    }
+
+    /**
+     * Converts the fields of new entries, i.e., with cold caches of the latex-free fields of the entries
+     */
+    @Benchmark
+    public void getLatexFreeFieldsOfNewEntries(Blackhole blackhole) {
+        for (int i = 0; i < fieldValues.size(); i += 6) {
+            BibEntry entry = new BibEntry(StandardEntryType.Article)
+                    .withField(StandardField.JOURNAL, fieldValues.get(i))
+                    .withField(StandardField.PUBLISHER, fieldValues.get(i + 1))
+                    .withField(StandardField.AUTHOR, fieldValues.get(i + 2))
+                    .withField(StandardField.YEAR, fieldValues.get(i + 3))
+                    .withField(StandardField.PAGES, fieldValues.get(i + 4))
+                    .withField(StandardField.TITLE, fieldValues.get(i + 5));
+            for (StandardField field : List.of(StandardField.JOURNAL, StandardField.PUBLISHER, StandardField.AUTHOR,
+                    StandardField.YEAR, StandardField.PAGES, StandardField.TITLE)) {
+                blackhole.consume(entry.getLatexFreeField(field));
+            }
+        }
+    }
+}
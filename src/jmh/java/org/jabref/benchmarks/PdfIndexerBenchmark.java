@@ -0,0 +1,119 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.jabref.logic.pdf.search.indexing.PdfIndexer;
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.preferences.FilePreferences;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Rebuilds the full text index of a synthetic corpus of generated PDF files.
+ */
+@State(Scope.Benchmark)
+public class PdfIndexerBenchmark {
+
+    private static final int PAGES_PER_PDF = 5;
+    private static final int LINES_PER_PAGE = 40;
+
+    @Param({"10", "100"})
+    private int numberOfPdfs;
+
+    private Path workingDirectory;
+    private BibDatabaseContext databaseContext;
+    private PdfIndexer indexer;
+
+    @Setup
+    public void init() throws IOException {
+        workingDirectory = Files.createTempDirectory("jabref-pdf-benchmark");
+        Path pdfDirectory = Files.createDirectory(workingDirectory.resolve("pdfs"));
+
+        BibDatabase database = new BibDatabase();
+        for (int i = 0; i < numberOfPdfs; i++) {
+            String fileName = "document" + i + ".pdf";
+            writePdf(pdfDirectory.resolve(fileName), i);
+
+            BibEntry entry = new BibEntry(StandardEntryType.Article);
+            entry.setCitationKey("key" + i);
+            entry.setFiles(Collections.singletonList(new LinkedFile("", fileName, StandardFileType.PDF.getName())));
+            database.insertEntry(entry);
+        }
+
+        databaseContext = mock(BibDatabaseContext.class);
+        when(databaseContext.getDatabasePath()).thenReturn(Optional.of(pdfDirectory));
+        when(databaseContext.getFileDirectories(any())).thenReturn(Collections.singletonList(pdfDirectory));
+        when(databaseContext.getFulltextIndexPath()).thenReturn(workingDirectory.resolve("index"));
+        when(databaseContext.getDatabase()).thenReturn(database);
+        when(databaseContext.getEntries()).thenReturn(database.getEntries());
+
+        indexer = PdfIndexer.of(databaseContext, mock(FilePreferences.class));
+    }
+
+    private void writePdf(Path path, int documentNumber) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+            for (int pageNumber = 0; pageNumber < PAGES_PER_PDF; pageNumber++) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream contentStream = new PDPageContentStream(document, page)) {
+                    contentStream.beginText();
+                    contentStream.setFont(font, 10);
+                    contentStream.setLeading(12);
+                    contentStream.newLineAtOffset(50, 750);
+                    for (int line = 0; line < LINES_PER_PAGE; line++) {
+                        contentStream.showText("Document " + documentNumber + " page " + pageNumber + " line " + line
+                                + " full text search index benchmark with some lorem ipsum dolor sit amet");
+                        contentStream.newLine();
+                    }
+                    contentStream.endText();
+                }
+            }
+            document.save(path.toFile());
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        PdfIndexer.shutdown(databaseContext);
+        try (Stream<Path> files = Files.walk(workingDirectory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void rebuildIndex() {
+        indexer.createIndex();
+        indexer.addToIndex(databaseContext);
+    }
+
+    @Benchmark
+    public void updateUnchangedIndex() {
+        indexer.addToIndex(databaseContext);
+    }
+}
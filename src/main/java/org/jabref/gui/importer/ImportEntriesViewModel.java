@@ -22,6 +22,7 @@ import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.database.DatabaseMerger;
 import org.jabref.logic.database.DuplicateCheck;
+import org.jabref.logic.database.DuplicateIndex;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
@@ -49,6 +50,7 @@ public class ImportEntriesViewModel extends AbstractViewModel {
     private final ObservableList<BibEntry> entries;
     private final PreferencesService preferences;
     private final BibEntryTypesManager entryTypesManager;
+    private DuplicateIndex duplicateIndex;
 
     /**
      * @param databaseContext the database to import into
@@ -99,9 +101,17 @@ public class ImportEntriesViewModel extends AbstractViewModel {
     }
 
     public boolean hasDuplicate(BibEntry entry) {
-        return findInternalDuplicate(entry).isPresent() ||
-                new DuplicateCheck(entryTypesManager)
-                .containsDuplicate(databaseContext.getDatabase(), entry, databaseContext.getMode()).isPresent();
+        return findInternalDuplicate(entry).isPresent() || getDuplicateIndex().getDuplicate(entry).isPresent();
+    }
+
+    /**
+     * Returns the index of the duplicates in the library, which is built once for all entries shown in the dialog
+     */
+    private synchronized DuplicateIndex getDuplicateIndex() {
+        if (duplicateIndex == null) {
+            duplicateIndex = new DuplicateIndex(databaseContext.getDatabase(), databaseContext.getMode(), entryTypesManager);
+        }
+        return duplicateIndex;
     }
 
     /**
@@ -113,8 +123,8 @@ public class ImportEntriesViewModel extends AbstractViewModel {
         // Check if we are supposed to warn about duplicates.
         // If so, then see if there are duplicates, and warn if yes.
         if (preferences.getImportExportPreferences().shouldWarnAboutDuplicatesOnImport()) {
-            BackgroundTask.wrap(() -> entriesToImport.stream()
-                                                     .anyMatch(this::hasDuplicate)).onSuccess(duplicateFound -> {
+            BackgroundTask.wrap(() -> entriesToImport.stream().anyMatch(entry -> findInternalDuplicate(entry).isPresent()) ||
+                    getDuplicateIndex().hasDuplicate(entriesToImport)).onSuccess(duplicateFound -> {
                 if (duplicateFound) {
                     boolean continueImport = dialogService.showConfirmationDialogWithOptOutAndWait(Localization.lang("Duplicates found"),
                             Localization.lang("There are possible duplicates that haven't been resolved. Continue?"),
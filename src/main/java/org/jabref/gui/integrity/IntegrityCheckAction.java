@@ -1,9 +1,9 @@
 package org.jabref.gui.integrity;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import javafx.collections.ObservableList;
 import javafx.concurrent.Task;
 
 import org.jabref.gui.DialogService;
@@ -16,7 +16,6 @@ import org.jabref.logic.integrity.IntegrityCheck;
 import org.jabref.logic.integrity.IntegrityMessage;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
-import org.jabref.model.entry.BibEntry;
 
 import static org.jabref.gui.actions.ActionHelper.needsDatabase;
 
@@ -48,21 +47,19 @@ public class IntegrityCheckAction extends SimpleCommand {
         Task<List<IntegrityMessage>> task = new Task<>() {
             @Override
             protected List<IntegrityMessage> call() {
-                List<IntegrityMessage> result = new ArrayList<>();
+                int numberOfEntries = database.getDatabase().getEntryCount();
+                AtomicInteger checkedEntries = new AtomicInteger();
+                AtomicInteger foundProblems = new AtomicInteger();
 
-                ObservableList<BibEntry> entries = database.getDatabase().getEntries();
-                result.addAll(check.checkDatabase(database.getDatabase()));
-                for (int i = 0; i < entries.size(); i++) {
+                // The entries are checked in parallel, the number of problems found so far is shown while checking
+                return check.check(messages -> {
                     if (isCancelled()) {
-                        break;
+                        throw new CancellationException();
                     }
-
-                    BibEntry entry = entries.get(i);
-                    result.addAll(check.checkEntry(entry));
-                    updateProgress(i, entries.size());
-                }
-
-                return result;
+                    int problems = foundProblems.addAndGet(messages.size());
+                    updateProgress(checkedEntries.incrementAndGet(), numberOfEntries);
+                    updateMessage(Localization.lang("Problems found: %0", String.valueOf(problems)));
+                });
             }
         };
         task.setOnSucceeded(value -> {
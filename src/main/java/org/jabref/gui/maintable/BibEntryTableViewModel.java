@@ -28,6 +28,7 @@ import org.jabref.model.entry.field.OrFields;
 import org.jabref.model.entry.field.SpecialField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.groups.AbstractGroup;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.groups.GroupTreeNode;
 
 import com.tobiasdiez.easybind.EasyBind;
@@ -79,7 +80,7 @@ public class BibEntryTableViewModel {
         return new UiThreadBinding<>(EasyBind.combine(entry.getFieldBinding(StandardField.GROUPS), database.getMetaData().groupsBinding(),
                 (a, b) ->
                         database.getMetaData().getGroups().map(groupTreeNode ->
-                                groupTreeNode.getMatchingGroups(entry).stream()
+                                GroupMembershipIndex.of(database.getDatabase()).getMatchingGroups(groupTreeNode, entry).stream()
                                              .map(GroupTreeNode::getGroup)
                                              .filter(Predicate.not(Predicate.isEqual(groupTreeNode.getGroup())))
                                              .collect(Collectors.toList()))
@@ -1,13 +1,23 @@
 package org.jabref.gui.maintable;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
@@ -15,40 +25,82 @@ import javafx.collections.transformation.SortedList;
 import org.jabref.gui.StateManager;
 import org.jabref.gui.groups.GroupViewMode;
 import org.jabref.gui.groups.GroupsPreferences;
+import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.BindingsHelper;
+import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.groups.GroupTreeNode;
+import org.jabref.model.groups.SearchGroup;
+import org.jabref.model.search.SearchMatcher;
 import org.jabref.model.search.matchers.MatcherSet;
 import org.jabref.model.search.matchers.MatcherSets;
+import org.jabref.model.search.rules.SearchRules;
 import org.jabref.preferences.PreferencesService;
 
 import com.tobiasdiez.easybind.EasyBind;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * Provides the entries of a library filtered by the active groups and the active search query.
+ * <p>
+ * The matching entries are computed in the background whenever the groups or the query change, and the filter of the
+ * table is replaced once by the result. The entries of the active groups are taken from the {@link GroupMembershipIndex}
+ * of the library. If the new query only narrows the previous one (e.g., the user typed another character), only the
+ * entries of the previous result are checked again. Entries which changed after a result was computed are always
+ * checked directly.
+ */
 public class MainTableDataModel {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MainTableDataModel.class);
+
     private final FilteredList<BibEntryTableViewModel> entriesFiltered;
     private final SortedList<BibEntryTableViewModel> entriesSorted;
     private final ObjectProperty<MainTableFieldValueFormatter> fieldValueFormatter;
     private final PreferencesService preferencesService;
     private final GroupsPreferences groupsPreferences;
     private final BibDatabaseContext bibDatabaseContext;
+    private final StateManager stateManager;
+    private final TaskExecutor taskExecutor;
+    private final GroupMembershipIndex groupMembershipIndex;
+    private final ObservableList<BibEntry> allEntries;
+
+    /**
+     * Every change of an entry in the table increments the version and stamps the entry with it. Updated only on the
+     * JavaFX thread, but read by the filter computations in the background.
+     */
+    private final Map<String, Long> entryVersions = new ConcurrentHashMap<>();
+    private long version = 0;
 
-    public MainTableDataModel(BibDatabaseContext context, PreferencesService preferencesService, StateManager stateManager) {
+    /**
+     * Incremented for every change of the filter, so that outdated computations can stop early and are not published
+     */
+    private final AtomicLong filterGeneration = new AtomicLong();
+    private FilterResult currentFilter;
+
+    public MainTableDataModel(BibDatabaseContext context, PreferencesService preferencesService, StateManager stateManager, TaskExecutor taskExecutor) {
         this.preferencesService = preferencesService;
         this.groupsPreferences = preferencesService.getGroupsPreferences();
         this.bibDatabaseContext = context;
+        this.stateManager = stateManager;
+        this.taskExecutor = taskExecutor;
+        this.groupMembershipIndex = GroupMembershipIndex.of(context.getDatabase());
         this.fieldValueFormatter = new SimpleObjectProperty<>(
                 new MainTableFieldValueFormatter(preferencesService, bibDatabaseContext));
 
-        ObservableList<BibEntry> allEntries = BindingsHelper.forUI(context.getDatabase().getEntries());
+        allEntries = BindingsHelper.forUI(context.getDatabase().getEntries());
+        // Registered before the view models are mapped, so that entries are stamped before the filter sees the change
+        allEntries.addListener(this::stampChangedEntries);
         ObservableList<BibEntryTableViewModel> entriesViewModel = EasyBind.mapBacked(allEntries, entry ->
                 new BibEntryTableViewModel(entry, bibDatabaseContext, fieldValueFormatter));
 
         entriesFiltered = new FilteredList<>(entriesViewModel);
-        entriesFiltered.predicateProperty().bind(
-                EasyBind.combine(stateManager.activeGroupProperty(), stateManager.activeSearchQueryProperty(), (groups, query) -> entry -> isMatched(groups, query, entry))
-        );
+        stateManager.activeGroupProperty().addListener((observable, oldValue, newValue) -> updateFilter());
+        stateManager.activeSearchQueryProperty().addListener((observable, oldValue, newValue) -> updateFilter());
+        updateFilter();
 
         IntegerProperty resultSize = new SimpleIntegerProperty();
         resultSize.bind(Bindings.size(entriesFiltered));
@@ -57,19 +109,111 @@ public class MainTableDataModel {
         entriesSorted = new SortedList<>(entriesFiltered);
     }
 
-    private boolean isMatched(ObservableList<GroupTreeNode> groups, Optional<SearchQuery> query, BibEntryTableViewModel entry) {
-        return isMatchedByGroup(groups, entry) && isMatchedBySearch(query, entry);
+    private void stampChangedEntries(ListChangeListener.Change<? extends BibEntry> change) {
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    entryVersions.put(change.getList().get(i).getId(), ++version);
+                }
+            }
+            for (BibEntry entry : change.getAddedSubList()) {
+                entryVersions.put(entry.getId(), ++version);
+            }
+        }
     }
 
-    private boolean isMatchedBySearch(Optional<SearchQuery> query, BibEntryTableViewModel entry) {
-        return query.map(matcher -> matcher.isMatch(entry.getEntry()))
+    private boolean isChangedSince(BibEntry entry, long filterVersion) {
+        return entryVersions.getOrDefault(entry.getId(), 0L) > filterVersion;
+    }
+
+    private void updateFilter() {
+        long generation = filterGeneration.incrementAndGet();
+        List<GroupTreeNode> groups = List.copyOf(stateManager.activeGroupProperty());
+        Optional<SearchQuery> query = stateManager.activeSearchQueryProperty().get();
+
+        Optional<MatcherSet> groupMatcher = createGroupMatcher(groups);
+        Optional<SearchMatcher> searchMatcher = query.map(searchQuery -> searchQuery.getMatcher(bibDatabaseContext.getDatabase()));
+        if (groupMatcher.isEmpty() && searchMatcher.isEmpty()) {
+            currentFilter = null;
+            entriesFiltered.setPredicate(null);
+            return;
+        }
+        SearchMatcher matcher = entry -> isMatchedByGroup(groupMatcher, entry) && isMatchedBySearch(searchMatcher, entry);
+        // Changed entries are matched without the token index, as the index learns about a change only after the table
+        Optional<SearchMatcher> liveSearchMatcher = query.map(SearchMatcher.class::cast);
+        SearchMatcher liveMatcher = entry -> isMatchedByGroup(groupMatcher, entry) && isMatchedBySearch(liveSearchMatcher, entry);
+
+        FilterResult previous = currentFilter;
+        boolean refine = (previous != null) && previous.isRefinedBy(groups, query);
+        boolean parallel = canMatchInParallel(groups, query);
+        boolean intersection = groupsPreferences.getGroupViewMode() == GroupViewMode.INTERSECTION;
+        // Unless the previous result is refined, the candidates are the entries of the groups, so only the query is left
+        boolean groupCandidates = !refine && !groups.isEmpty();
+        SearchMatcher candidateMatcher = groupCandidates ? entry -> isMatchedBySearch(searchMatcher, entry) : matcher;
+        List<BibEntry> entries = new ArrayList<>(allEntries);
+        long filterVersion = version;
+
+        BackgroundTask.wrap(() -> {
+                          Stream<BibEntry> candidates = parallel ? entries.parallelStream() : entries.stream();
+                          if (refine) {
+                              candidates = candidates.filter(entry -> previous.matchedEntryIds().contains(entry.getId())
+                                      || isChangedSince(entry, previous.version()));
+                          } else if (groupCandidates) {
+                              Set<BibEntry> matchedByGroups = Collections.newSetFromMap(new IdentityHashMap<>());
+                              matchedByGroups.addAll(groupMembershipIndex.findMatches(groups, intersection));
+                              candidates = candidates.filter(matchedByGroups::contains);
+                          }
+                          return candidates.filter(entry -> (generation == filterGeneration.get()) && candidateMatcher.isMatch(entry))
+                                           .map(BibEntry::getId)
+                                           .collect(Collectors.toSet());
+                      })
+                      .onSuccess(matchedEntryIds -> {
+                          if (generation == filterGeneration.get()) {
+                              publish(new FilterResult(groups, query, liveMatcher, matchedEntryIds, filterVersion));
+                          }
+                      })
+                      .onFailure(exception -> {
+                          LOGGER.error("Could not filter the entries in the background", exception);
+                          if (generation == filterGeneration.get()) {
+                              currentFilter = null;
+                              entriesFiltered.setPredicate(viewModel -> liveMatcher.isMatch(viewModel.getEntry()));
+                          }
+                      })
+                      .executeWith(taskExecutor);
+    }
+
+    private void publish(FilterResult filter) {
+        currentFilter = filter;
+        entriesFiltered.setPredicate(viewModel -> {
+            BibEntry entry = viewModel.getEntry();
+            if (isChangedSince(entry, filter.version())) {
+                return filter.matcher().isMatch(entry);
+            }
+            return filter.matchedEntryIds().contains(entry.getId());
+        });
+    }
+
+    /**
+     * The full text search rules keep the last query in a field, so they must not be applied concurrently
+     */
+    private boolean canMatchInParallel(List<GroupTreeNode> groups, Optional<SearchQuery> query) {
+        boolean fulltextQuery = query.map(searchQuery -> searchQuery.getSearchFlags().contains(SearchRules.SearchFlags.FULLTEXT))
+                                     .orElse(false);
+        boolean fulltextGroup = groups.stream()
+                                      .map(GroupTreeNode::getGroup)
+                                      .anyMatch(group -> (group instanceof SearchGroup searchGroup)
+                                              && searchGroup.getSearchFlags().contains(SearchRules.SearchFlags.FULLTEXT));
+        return !fulltextQuery && !fulltextGroup;
+    }
+
+    private boolean isMatchedBySearch(Optional<SearchMatcher> query, BibEntry entry) {
+        return query.map(matcher -> matcher.isMatch(entry))
                     .orElse(true);
     }
 
-    private boolean isMatchedByGroup(ObservableList<GroupTreeNode> groups, BibEntryTableViewModel entry) {
-        return createGroupMatcher(groups)
-                .map(matcher -> matcher.isMatch(entry.getEntry()))
-                .orElse(true);
+    private boolean isMatchedByGroup(Optional<MatcherSet> groups, BibEntry entry) {
+        return groups.map(matcher -> matcher.isMatch(entry))
+                     .orElse(true);
     }
 
     private Optional<MatcherSet> createGroupMatcher(List<GroupTreeNode> selectedGroups) {
@@ -96,4 +240,34 @@ public class MainTableDataModel {
     public void refresh() {
         this.fieldValueFormatter.setValue(new MainTableFieldValueFormatter(preferencesService, bibDatabaseContext));
     }
+
+    /**
+     * The entries matching the given groups and query at the given version of the entries. The matcher checks entries
+     * changed afterwards directly.
+     */
+    private record FilterResult(List<GroupTreeNode> groups, Optional<SearchQuery> query, SearchMatcher matcher,
+                                Set<String> matchedEntryIds, long version) {
+
+        /**
+         * Checks whether every entry matching the given groups and query also matches this filter. This holds if the
+         * groups are the same and both queries are plain contains-based queries, where each word of this query is part
+         * of a word of the new query.
+         */
+        boolean isRefinedBy(List<GroupTreeNode> newGroups, Optional<SearchQuery> newQuery) {
+            if (!groups.equals(newGroups) || query.isEmpty() || newQuery.isEmpty()) {
+                return false;
+            }
+            SearchQuery oldSearch = query.get();
+            SearchQuery newSearch = newQuery.get();
+            if (!oldSearch.isContainsBasedSearch() || !newSearch.isContainsBasedSearch()
+                    || !oldSearch.getSearchFlags().equals(newSearch.getSearchFlags())
+                    || oldSearch.getSearchFlags().contains(SearchRules.SearchFlags.REGULAR_EXPRESSION)
+                    || oldSearch.getSearchFlags().contains(SearchRules.SearchFlags.FULLTEXT)) {
+                return false;
+            }
+            List<String> newWords = newSearch.getSearchWords();
+            return oldSearch.getSearchWords().stream()
+                            .allMatch(oldWord -> newWords.stream().anyMatch(newWord -> newWord.contains(oldWord)));
+        }
+    }
 }
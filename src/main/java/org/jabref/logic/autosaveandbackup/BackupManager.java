@@ -13,6 +13,7 @@ import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 
+import org.jabref.logic.bibtex.BibEntrySerializationCache;
 import org.jabref.logic.bibtex.InvalidFieldValueException;
 import org.jabref.logic.exporter.AtomicFileWriter;
 import org.jabref.logic.exporter.BibWriter;
@@ -52,12 +53,14 @@ public class BackupManager {
     private final DelayTaskThrottler throttler;
     private final CoarseChangeFilter changeFilter;
     private final BibEntryTypesManager entryTypesManager;
+    private final BibEntrySerializationCache serializationCache;
 
     private BackupManager(BibDatabaseContext bibDatabaseContext, BibEntryTypesManager entryTypesManager, PreferencesService preferences) {
         this.bibDatabaseContext = bibDatabaseContext;
         this.entryTypesManager = entryTypesManager;
         this.preferences = preferences;
         this.throttler = new DelayTaskThrottler(15000);
+        this.serializationCache = new BibEntrySerializationCache(bibDatabaseContext.getDatabase());
 
         changeFilter = new CoarseChangeFilter(bibDatabaseContext);
         changeFilter.registerListener(this);
@@ -139,9 +142,11 @@ public class BackupManager {
             GeneralPreferences generalPreferences = preferences.getGeneralPreferences();
             SavePreferences savePreferences = preferences.getSavePreferences()
                                                          .withMakeBackup(false);
+            // Entries changed since loading are only formatted again if they changed since the last backup
+            serializationCache.setFieldWriterPreferences(savePreferences.getFieldWriterPreferences());
             Writer writer = new AtomicFileWriter(backupPath, charset);
             BibWriter bibWriter = new BibWriter(writer, OS.NEWLINE);
-            new BibtexDatabaseWriter(bibWriter, generalPreferences, savePreferences, entryTypesManager)
+            new BibtexDatabaseWriter(bibWriter, generalPreferences, savePreferences, entryTypesManager, Optional.of(serializationCache))
                     .saveDatabase(bibDatabaseContext);
         } catch (IOException e) {
             logIfCritical(backupPath, e);
@@ -180,6 +185,7 @@ public class BackupManager {
         changeFilter.unregisterListener(this);
         changeFilter.shutdown();
         throttler.shutdown();
+        serializationCache.shutdown();
         determineBackupPath().ifPresent(this::deleteBackupFile);
     }
 
@@ -0,0 +1,108 @@
+package org.jabref.logic.bibtex;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntryChangedEvent;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Caches the serialization of the changed entries of a database, so that writing the database again (e.g., for a
+ * backup) only formats the entries changed since the last write. The serialization of an entry is dropped as soon as
+ * the entry changes or is removed from the database.
+ * <p>
+ * The cache is only valid for one set of {@link FieldWriterPreferences}, see {@link #setFieldWriterPreferences(FieldWriterPreferences)},
+ * and one state of the entry types, see {@link #setEntryTypesModificationCount(long)}.
+ */
+public class BibEntrySerializationCache {
+
+    private final BibDatabase database;
+
+    // Entries are compared by identity, as entries with the same content are serialized the same anyway
+    private final Map<BibEntry, CachedSerialization> serializations = new IdentityHashMap<>();
+    private FieldWriterPreferences fieldWriterPreferences;
+    private long entryTypesModificationCount = 0;
+    private long modificationCount = 0;
+
+    public BibEntrySerializationCache(BibDatabase database) {
+        this.database = database;
+        database.registerListener(this);
+    }
+
+    /**
+     * Sets the preferences the cached serializations are written with. The cache is cleared if they differ from the
+     * previous ones.
+     */
+    public synchronized void setFieldWriterPreferences(FieldWriterPreferences fieldWriterPreferences) {
+        if (!Objects.equals(this.fieldWriterPreferences, fieldWriterPreferences)) {
+            serializations.clear();
+            modificationCount++;
+            this.fieldWriterPreferences = fieldWriterPreferences;
+        }
+    }
+
+    /**
+     * Sets the {@link org.jabref.model.entry.BibEntryTypesManager#getModificationCount() modification count} of the
+     * entry types the cached serializations are written with. The cache is cleared if the entry types changed since,
+     * as the types determine the order of the fields.
+     */
+    public synchronized void setEntryTypesModificationCount(long entryTypesModificationCount) {
+        if (this.entryTypesModificationCount != entryTypesModificationCount) {
+            serializations.clear();
+            modificationCount++;
+            this.entryTypesModificationCount = entryTypesModificationCount;
+        }
+    }
+
+    /**
+     * Returns the number of changes to the entries seen so far. Pass it to {@link #put(BibEntry, BibDatabaseMode, String, long)}
+     * to ensure that an entry changed while it was serialized is not cached.
+     */
+    public synchronized long getModificationCount() {
+        return modificationCount;
+    }
+
+    public synchronized Optional<String> get(BibEntry entry, BibDatabaseMode mode) {
+        CachedSerialization cached = serializations.get(entry);
+        if ((cached == null) || (cached.mode() != mode) || !Objects.equals(cached.userComments(), entry.getUserComments())) {
+            return Optional.empty();
+        }
+        return Optional.of(cached.serialization());
+    }
+
+    /**
+     * Caches the given serialization of the entry, unless an entry changed since the given modification count was
+     * determined
+     */
+    public synchronized void put(BibEntry entry, BibDatabaseMode mode, String serialization, long modificationCountBeforeSerialization) {
+        if (modificationCountBeforeSerialization == modificationCount) {
+            serializations.put(entry, new CachedSerialization(mode, entry.getUserComments(), serialization));
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntryChangedEvent event) {
+        serializations.remove(event.getBibEntry());
+        modificationCount++;
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        event.getBibEntries().forEach(serializations::remove);
+        modificationCount++;
+    }
+
+    public void shutdown() {
+        database.unregisterListener(this);
+    }
+
+    private record CachedSerialization(BibDatabaseMode mode, String userComments, String serialization) {
+    }
+}
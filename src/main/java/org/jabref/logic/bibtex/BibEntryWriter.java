@@ -34,10 +34,20 @@ public class BibEntryWriter {
 
     private final BibEntryTypesManager entryTypesManager;
     private final FieldWriter fieldWriter;
+    private final Optional<BibEntrySerializationCache> serializationCache;
 
     public BibEntryWriter(FieldWriter fieldWriter, BibEntryTypesManager entryTypesManager) {
+        this(fieldWriter, entryTypesManager, Optional.empty());
+    }
+
+    /**
+     * @param serializationCache cache for the serialization of changed entries. It has to be set up for the
+     *                           preferences of the given field writer.
+     */
+    public BibEntryWriter(FieldWriter fieldWriter, BibEntryTypesManager entryTypesManager, Optional<BibEntrySerializationCache> serializationCache) {
         this.fieldWriter = fieldWriter;
         this.entryTypesManager = entryTypesManager;
+        this.serializationCache = serializationCache;
     }
 
     public String serializeAll(List<BibEntry> entries, BibDatabaseMode databaseMode) throws IOException {
@@ -69,11 +79,35 @@ public class BibEntryWriter {
             return;
         }
 
+        if (serializationCache.isPresent()) {
+            out.write(getSerialization(entry, bibDatabaseMode, serializationCache.get()));
+            out.finishBlock();
+            return;
+        }
+
         writeUserComments(entry, out);
         writeRequiredFieldsFirstRemainingFieldsSecond(entry, out, bibDatabaseMode);
         out.finishBlock();
     }
 
+    private String getSerialization(BibEntry entry, BibDatabaseMode bibDatabaseMode, BibEntrySerializationCache cache) throws IOException {
+        cache.setEntryTypesModificationCount(entryTypesManager.getModificationCount());
+        Optional<String> cached = cache.get(entry, bibDatabaseMode);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        long modificationCount = cache.getModificationCount();
+        // The line breaks are converted to the ones of the target writer when the serialization is written
+        StringWriter writer = new StringWriter();
+        BibWriter bibWriter = new BibWriter(writer, "\n");
+        writeUserComments(entry, bibWriter);
+        writeRequiredFieldsFirstRemainingFieldsSecond(entry, bibWriter, bibDatabaseMode);
+        String serialization = writer.toString();
+        cache.put(entry, bibDatabaseMode, serialization, modificationCount);
+        return serialization;
+    }
+
     private void writeUserComments(BibEntry entry, BibWriter out) throws IOException {
         String userComments = entry.getUserComments();
 
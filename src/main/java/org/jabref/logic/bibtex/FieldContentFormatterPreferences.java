@@ -2,6 +2,7 @@ package org.jabref.logic.bibtex;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 import org.jabref.model.entry.field.Field;
 
@@ -23,4 +24,22 @@ public class FieldContentFormatterPreferences {
     public List<Field> getNonWrappableFields() {
         return nonWrappableFields;
     }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if ((other == null) || (getClass() != other.getClass())) {
+            return false;
+        }
+
+        FieldContentFormatterPreferences that = (FieldContentFormatterPreferences) other;
+        return Objects.equals(nonWrappableFields, that.nonWrappableFields);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(nonWrappableFields);
+    }
 }
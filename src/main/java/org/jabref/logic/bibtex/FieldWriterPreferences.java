@@ -1,6 +1,7 @@
 package org.jabref.logic.bibtex;
 
 import java.util.List;
+import java.util.Objects;
 
 import org.jabref.model.entry.field.Field;
 
@@ -36,4 +37,24 @@ public class FieldWriterPreferences {
     public FieldContentFormatterPreferences getFieldContentFormatterPreferences() {
         return fieldContentFormatterPreferences;
     }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if ((other == null) || (getClass() != other.getClass())) {
+            return false;
+        }
+
+        FieldWriterPreferences that = (FieldWriterPreferences) other;
+        return (resolveStrings == that.resolveStrings)
+                && Objects.equals(resolveStringsForFields, that.resolveStringsForFields)
+                && Objects.equals(fieldContentFormatterPreferences, that.fieldContentFormatterPreferences);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(resolveStrings, resolveStringsForFields, fieldContentFormatterPreferences);
+    }
 }
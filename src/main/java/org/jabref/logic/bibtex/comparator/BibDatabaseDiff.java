@@ -1,16 +1,26 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.database.DuplicateCheck;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.strings.StringUtil;
 
 public class BibDatabaseDiff {
 
@@ -40,6 +50,14 @@ public class BibDatabaseDiff {
         return comparator;
     }
 
+    /**
+     * Matches the entries of the original database with the entries of the new one.
+     * <p>
+     * First, entries having exactly the same fields (see {@link DuplicateCheck#compareEntriesStrictly(BibEntry, BibEntry)})
+     * are matched through a hash map of their contents. Only the remaining entries are compared with each other: each
+     * remaining original entry is matched with the most similar remaining new entry having the same citation key or,
+     * if there is none similar enough, with the most similar remaining new entry at all.
+     */
     private static List<BibEntryDiff> compareEntries(List<BibEntry> originalEntries, List<BibEntry> newEntries) {
         List<BibEntryDiff> differences = new ArrayList<>();
 
@@ -48,63 +66,60 @@ public class BibDatabaseDiff {
         // can also be matched.
         int positionNew = 0;
 
-        // Create a HashSet where we can put references to entries in the new
-        // database that we have matched. This is to avoid matching them twice.
-        Set<Integer> used = new HashSet<>(newEntries.size());
-        Set<BibEntry> notMatched = new HashSet<>(originalEntries.size());
+        // The positions of the new entries which are not matched yet, grouped by their contents
+        List<String> newContents = newEntries.parallelStream()
+                                             .map(BibDatabaseDiff::getContent)
+                                             .collect(Collectors.toList());
+        Map<String, Deque<Integer>> newEntriesByContent = new HashMap<>();
+        for (int i = 0; i < newEntries.size(); i++) {
+            newEntriesByContent.computeIfAbsent(newContents.get(i), content -> new ArrayDeque<>()).add(i);
+        }
+        List<String> originalContents = originalEntries.parallelStream()
+                                                       .map(BibDatabaseDiff::getContent)
+                                                       .collect(Collectors.toList());
+
+        // Create a set where we can put the positions of the entries in the new
+        // database that are not matched yet. This is to avoid matching them twice.
+        NavigableSet<Integer> notUsed = IntStream.range(0, newEntries.size()).boxed().collect(Collectors.toCollection(TreeSet::new));
+        List<BibEntry> notMatched = new ArrayList<>();
 
         // Loop through the entries of the original database, looking for exact matches in the new one.
         // We must finish scanning for exact matches before looking for near matches, to avoid an exact
-        // match being "stolen" from another entry.
-        mainLoop:
-        for (BibEntry originalEntry : originalEntries) {
-            // First check if the similarly placed entry in the other base matches exactly.
-            if (!used.contains(positionNew) && (positionNew < newEntries.size())) {
-                double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(positionNew));
-                if (score > 1) {
-                    used.add(positionNew);
-                    positionNew++;
-                    continue;
-                }
+        // match being "stolen" from another entry. The first not used entry with the same content is taken.
+        for (int i = 0; i < originalEntries.size(); i++) {
+            Deque<Integer> sameContent = newEntriesByContent.get(originalContents.get(i));
+            if ((sameContent == null) || sameContent.isEmpty()) {
+                // No? Add this entry to the list of non-matched entries.
+                notMatched.add(originalEntries.get(i));
+                continue;
             }
-            // No? Then check if another entry matches exactly.
-            for (int i = positionNew + 1; i < newEntries.size(); i++) {
-                if (!used.contains(i)) {
-                    double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
-                    if (score > 1) {
-                        used.add(i);
-                        continue mainLoop;
-                    }
-                }
+            int match = sameContent.poll();
+            notUsed.remove(match);
+            if (match == positionNew) {
+                positionNew++;
             }
+        }
 
-            // No? Add this entry to the list of non-matched entries.
-            notMatched.add(originalEntry);
+        Map<String, List<Integer>> notUsedByCitationKey = new HashMap<>();
+        for (int i : notUsed) {
+            newEntries.get(i).getCitationKey().ifPresent(key -> notUsedByCitationKey.computeIfAbsent(key, k -> new ArrayList<>()).add(i));
         }
 
         // Now we've found all exact matches, look through the remaining entries, looking for close matches.
-        for (Iterator<BibEntry> iteratorNotMatched = notMatched.iterator(); iteratorNotMatched.hasNext(); ) {
-            BibEntry originalEntry = iteratorNotMatched.next();
-
-            // These two variables will keep track of which entry most closely matches the one we're looking at.
-            double bestMatch = 0;
+        for (BibEntry originalEntry : notMatched) {
             int bestMatchIndex = -1;
             if (positionNew < (newEntries.size() - 1)) {
-                for (int i = positionNew; i < newEntries.size(); i++) {
-                    if (!used.contains(i)) {
-                        double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
-                        if (score > bestMatch) {
-                            bestMatch = score;
-                            bestMatchIndex = i;
-                        }
-                    }
+                List<Integer> sameCitationKey = originalEntry.getCitationKey()
+                                                             .map(key -> notUsedByCitationKey.getOrDefault(key, List.of()))
+                                                             .orElse(List.of());
+                bestMatchIndex = getBestMatch(originalEntry, sameCitationKey, newEntries, notUsed);
+                if (bestMatchIndex < 0) {
+                    bestMatchIndex = getBestMatch(originalEntry, notUsed, newEntries, notUsed);
                 }
             }
 
-            if (bestMatch > MATCH_THRESHOLD) {
-                used.add(bestMatchIndex);
-                iteratorNotMatched.remove();
-
+            if (bestMatchIndex >= 0) {
+                notUsed.remove(bestMatchIndex);
                 differences.add(new BibEntryDiff(originalEntry, newEntries.get(bestMatchIndex)));
             } else {
                 differences.add(new BibEntryDiff(originalEntry, null));
@@ -112,15 +127,47 @@ public class BibDatabaseDiff {
         }
 
         // Finally, look if there are still untouched entries in the new database. These may have been added.
-        for (int i = 0; i < newEntries.size(); i++) {
-            if (!used.contains(i)) {
-                differences.add(new BibEntryDiff(null, newEntries.get(i)));
-            }
+        for (int i : notUsed) {
+            differences.add(new BibEntryDiff(null, newEntries.get(i)));
         }
 
         return differences;
     }
 
+    /**
+     * Returns the position of the not used candidate which is most similar to the given entry, or -1 if no candidate is
+     * similar enough
+     */
+    private static int getBestMatch(BibEntry originalEntry, Collection<Integer> candidates, List<BibEntry> newEntries, Set<Integer> notUsed) {
+        double bestMatch = 0;
+        int bestMatchIndex = -1;
+        for (int i : candidates) {
+            if (notUsed.contains(i)) {
+                double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
+                if (score > bestMatch) {
+                    bestMatch = score;
+                    bestMatchIndex = i;
+                }
+            }
+        }
+        return (bestMatch > MATCH_THRESHOLD) ? bestMatchIndex : -1;
+    }
+
+    /**
+     * Returns the fields of the given entry in a canonical form. Two entries have the same content if and only if all
+     * of their fields are equal when ignoring the kind of line breaks.
+     */
+    private static String getContent(BibEntry entry) {
+        StringBuilder content = new StringBuilder();
+        entry.getFields().stream()
+             .sorted(Comparator.comparing(Field::getName))
+             .forEach(field -> content.append(field.getName())
+                                      .append('\0')
+                                      .append(StringUtil.unifyLineBreaks(entry.getField(field).orElse(""), "\n"))
+                                      .append('\0'));
+        return content.toString();
+    }
+
     public static BibDatabaseDiff compare(BibDatabaseContext base, BibDatabaseContext changed) {
         return new BibDatabaseDiff(base, changed);
     }
@@ -0,0 +1,65 @@
+package org.jabref.logic.bibtex.comparator;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * Sorts entries like a {@link FieldComparatorStack} of the given comparators, but determines the sort key of each entry
+ * for each {@link FieldComparator} only once (see {@link FieldComparator#getSortKey(BibEntry)}) instead of for each
+ * comparison. The sort keys are determined and compared in parallel.
+ */
+public class BibEntrySorter {
+
+    private BibEntrySorter() {
+    }
+
+    /**
+     * Returns the given entries sorted by the given comparators. The sort is stable, i.e., entries which are equal with
+     * respect to all comparators keep their order.
+     */
+    public static List<BibEntry> sort(Collection<BibEntry> entries, List<? extends Comparator<BibEntry>> comparators) {
+        KeyedEntry[] keyedEntries = entries.parallelStream()
+                                           .map(entry -> new KeyedEntry(entry, getSortKeys(entry, comparators)))
+                                           .toArray(KeyedEntry[]::new);
+
+        Arrays.parallelSort(keyedEntries, (one, two) -> compare(one, two, comparators));
+
+        return Arrays.stream(keyedEntries)
+                     .map(KeyedEntry::entry)
+                     .collect(Collectors.toList());
+    }
+
+    private static FieldComparator.SortKey[] getSortKeys(BibEntry entry, List<? extends Comparator<BibEntry>> comparators) {
+        FieldComparator.SortKey[] sortKeys = new FieldComparator.SortKey[comparators.size()];
+        for (int i = 0; i < sortKeys.length; i++) {
+            if (comparators.get(i) instanceof FieldComparator fieldComparator) {
+                sortKeys[i] = fieldComparator.getSortKey(entry);
+            }
+        }
+        return sortKeys;
+    }
+
+    private static int compare(KeyedEntry one, KeyedEntry two, List<? extends Comparator<BibEntry>> comparators) {
+        for (int i = 0; i < comparators.size(); i++) {
+            Comparator<BibEntry> comparator = comparators.get(i);
+            int result;
+            if (comparator instanceof FieldComparator fieldComparator) {
+                result = fieldComparator.compare(one.sortKeys()[i], two.sortKeys()[i]);
+            } else {
+                result = comparator.compare(one.entry(), two.entry());
+            }
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    private record KeyedEntry(BibEntry entry, FieldComparator.SortKey[] sortKeys) {
+    }
+}
@@ -1,11 +1,17 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.text.CollationKey;
 import java.text.Collator;
 import java.text.ParseException;
 import java.text.RuleBasedCollator;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
@@ -18,6 +24,8 @@ import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.metadata.SaveOrderConfig;
 import org.jabref.model.strings.StringUtil;
 
+import com.google.common.cache.CacheBuilder;
+
 /**
  * A comparator for BibEntry fields
  */
@@ -25,11 +33,21 @@ public class FieldComparator implements Comparator<BibEntry> {
 
     private static final Collator COLLATOR = getCollator();
 
+    // Collators synchronize all computations, so each thread uses its own copy to compute collation keys
+    private static final ThreadLocal<Collator> THREAD_COLLATOR = ThreadLocal.withInitial(() -> (Collator) COLLATOR.clone());
+
+    // The sort keys of the entries, by the fields they were computed for. The entries are compared by identity.
+    private static final Map<BibEntry, Map<List<Field>, SortKey>> SORT_KEYS = CacheBuilder.newBuilder()
+                                                                                       .weakKeys()
+                                                                                       .<BibEntry, Map<List<Field>, SortKey>>build()
+                                                                                       .asMap();
+
     enum FieldType {
         NAME, TYPE, YEAR, MONTH, OTHER
     }
 
     private final OrFields fields;
+    private final List<Field> sortKeyFields;
     private final FieldType fieldType;
     private final boolean isNumeric;
     private final int multiplier;
@@ -44,6 +62,7 @@ public class FieldComparator implements Comparator<BibEntry> {
 
     public FieldComparator(OrFields fields, boolean descending) {
         this.fields = fields;
+        sortKeyFields = List.copyOf(fields);
         fieldType = determineFieldType();
         isNumeric = this.fields.getPrimary().isNumeric();
         multiplier = descending ? -1 : 1;
@@ -145,4 +164,87 @@ public class FieldComparator implements Comparator<BibEntry> {
         String theirs = f2.toLowerCase(Locale.ENGLISH);
         return COLLATOR.compare(ours, theirs) * multiplier;
     }
+
+    /**
+     * Returns the sort key of the given entry. Comparing the sort keys of two entries with
+     * {@link #compare(SortKey, SortKey)} yields the same result as comparing the entries, but is much cheaper.
+     * <p>
+     * The sort key is cached until the value of the field of the entry changes.
+     */
+    SortKey getSortKey(BibEntry entry) {
+        String value = (fieldType == FieldType.TYPE) ? entry.getType().getDisplayName() : getFieldValue(entry);
+
+        Map<List<Field>, SortKey> sortKeys = SORT_KEYS.computeIfAbsent(entry, key -> new ConcurrentHashMap<>());
+        SortKey cached = sortKeys.get(sortKeyFields);
+        if ((cached != null) && Objects.equals(cached.value(), value)) {
+            return cached;
+        }
+
+        SortKey sortKey = computeSortKey(value);
+        sortKeys.put(sortKeyFields, sortKey);
+        return sortKey;
+    }
+
+    private SortKey computeSortKey(String value) {
+        if (value == null) {
+            return new SortKey(null, OptionalInt.empty(), null);
+        }
+
+        String text = value;
+        if (fieldType == FieldType.NAME) {
+            text = AuthorList.fixAuthorForAlphabetization(value);
+        } else if (fieldType == FieldType.YEAR) {
+            return new SortKey(value, OptionalInt.of(StringUtil.intValueOfOptional(value).orElse(0)), null);
+        } else if (fieldType == FieldType.MONTH) {
+            return new SortKey(value, OptionalInt.of(Month.parse(value).map(Month::getNumber).orElse(-1)), null);
+        }
+
+        if (isNumeric) {
+            Optional<Integer> number = StringUtil.intValueOfOptional(text);
+            if (number.isPresent()) {
+                return new SortKey(value, OptionalInt.of(number.get()), null);
+            }
+        }
+
+        return new SortKey(value, OptionalInt.empty(), THREAD_COLLATOR.get().getCollationKey(text.toLowerCase(Locale.ENGLISH)));
+    }
+
+    /**
+     * Compares two sort keys determined by {@link #getSortKey(BibEntry)}
+     */
+    int compare(SortKey one, SortKey two) {
+        if ((one.value() == null) && (two.value() == null)) {
+            return 0;
+        } else if (one.value() == null) {
+            return multiplier;
+        } else if (two.value() == null) {
+            return -multiplier;
+        }
+
+        if ((fieldType == FieldType.YEAR) || (fieldType == FieldType.MONTH)) {
+            return Integer.compare(one.number().getAsInt(), two.number().getAsInt()) * multiplier;
+        }
+
+        if (isNumeric) {
+            if (one.number().isPresent() && two.number().isPresent()) {
+                return Integer.compare(one.number().getAsInt(), two.number().getAsInt()) * multiplier;
+            } else if (one.number().isPresent()) {
+                return -1 * multiplier;
+            } else if (two.number().isPresent()) {
+                return multiplier;
+            }
+        }
+
+        return Integer.signum(one.collationKey().compareTo(two.collationKey())) * multiplier;
+    }
+
+    /**
+     * The value of the field of an entry, prepared for comparison
+     *
+     * @param value        the value the key was computed from, null if the entry has no value
+     * @param number       the year, month or numeric value
+     * @param collationKey the key of the value for the collator, if it is compared as text
+     */
+    record SortKey(String value, OptionalInt number, CollationKey collationKey) {
+    }
 }
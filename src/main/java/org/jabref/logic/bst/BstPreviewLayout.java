@@ -49,7 +49,11 @@ public class BstPreviewLayout implements PreviewLayout {
         // ensure that the entry is of BibTeX format (and do not modify the original entry)
         BibEntry entry = (BibEntry) originalEntry.clone();
         new ConvertToBibtexCleanup().cleanup(entry);
-        String result = vm.run(List.of(entry));
+        String result;
+        // The VM keeps its state between runs and is not thread-safe
+        synchronized (vm) {
+            result = vm.run(List.of(entry));
+        }
         // Remove all comments
         result = result.replaceAll("%.*", "");
         // Remove all LaTeX comments
@@ -0,0 +1,58 @@
+package org.jabref.logic.bst;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+/**
+ * The operand stack of the {@link VM}.
+ * <p>
+ * In contrast to {@link java.util.Stack}, the stack is not synchronized, as a VM is only used by one thread at a time.
+ */
+public class BstStack {
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    private Object[] elements = new Object[INITIAL_CAPACITY];
+    private int size = 0;
+
+    public void push(Object element) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+        }
+        elements[size++] = element;
+    }
+
+    /**
+     * Removes and returns the top element of the stack
+     *
+     * @throws EmptyStackException if the stack is empty
+     */
+    public Object pop() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        Object element = elements[--size];
+        elements[size] = null;
+        return element;
+    }
+
+    /**
+     * Returns the top element of the stack without removing it
+     *
+     * @throws EmptyStackException if the stack is empty
+     */
+    public Object peek() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return elements[size - 1];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
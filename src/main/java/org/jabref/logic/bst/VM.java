@@ -6,11 +6,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Stack;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -61,10 +61,16 @@ public class VM implements Warn {
 
     private Map<String, BstFunction> functions = new HashMap<>();
 
-    private Stack<Object> stack = new Stack<>();
+    private BstStack stack = new BstStack();
 
     private final Map<String, BstFunction> buildInFunctions;
 
+    // The functions of the bst file, compiled once and reused across runs
+    private final Map<Tree, StackFunction> compiledFunctions = new IdentityHashMap<>();
+
+    // Incremented whenever a name is declared, which invalidates the names resolved by the compiled functions
+    private int declarationVersion = 0;
+
     private File file;
 
     private final CommonTree tree;
@@ -365,8 +371,8 @@ public class VM implements Warn {
             Object f2 = stack.pop();
             Object i = stack.pop();
 
-            if (!((f1 instanceof Identifier) || (f1 instanceof Tree))
-                    && ((f2 instanceof Identifier) || (f2 instanceof Tree)) && (i instanceof Integer)) {
+            if (!((f1 instanceof Identifier) || (f1 instanceof StackFunction))
+                    && ((f2 instanceof Identifier) || (f2 instanceof StackFunction)) && (i instanceof Integer)) {
                 throw new VMException("Expecting two functions and an integer for if$.");
             }
 
@@ -510,7 +516,7 @@ public class VM implements Warn {
          * designers while debugging.
          */
         buildInFunctions.put("stack$", context -> {
-            while (!stack.empty()) {
+            while (!stack.isEmpty()) {
                 LOGGER.debug("Stack entry {}", stack.pop());
             }
         });
@@ -710,8 +716,8 @@ public class VM implements Warn {
         Object f2 = stack.pop();
         Object f1 = stack.pop();
 
-        if (!((f1 instanceof Identifier) || (f1 instanceof Tree))
-                && ((f2 instanceof Identifier) || (f2 instanceof Tree))) {
+        if (!((f1 instanceof Identifier) || (f1 instanceof StackFunction))
+                && ((f2 instanceof Identifier) || (f2 instanceof StackFunction))) {
             throw new VMException("Expecting two functions for while$.");
         }
 
@@ -868,7 +874,8 @@ public class VM implements Warn {
         functions = new HashMap<>();
         functions.putAll(buildInFunctions);
 
-        stack = new Stack<>();
+        stack = new BstStack();
+        declarationVersion++;
 
         // Create entries
         entries = new ArrayList<>(bibEntries.size());
@@ -964,6 +971,7 @@ public class VM implements Warn {
                 e.fields.put(StandardField.CROSSREF.getName(), null);
             }
         }
+        declarationVersion++;
     }
 
     /**
@@ -977,6 +985,7 @@ public class VM implements Warn {
         String name = child.getChild(0).getText();
         String replacement = child.getChild(1).getText();
         functions.put(name, new MacroFunction(replacement));
+        declarationVersion++;
     }
 
     public class MacroFunction implements BstFunction {
@@ -1034,6 +1043,7 @@ public class VM implements Warn {
         for (BstEntry entry : entries) {
             entry.localStrings.put("sort.key$", null);
         }
+        declarationVersion++;
     }
 
     private void reverse(Tree child) {
@@ -1062,9 +1072,8 @@ public class VM implements Warn {
     }
 
     private void executeInContext(Object o, BstEntry context) {
-        if (o instanceof Tree) {
-            Tree t = (Tree) o;
-            new StackFunction(t).execute(context);
+        if (o instanceof StackFunction stackFunction) {
+            stackFunction.execute(context);
         } else if (o instanceof Identifier) {
             execute(((Identifier) o).getName(), context);
         }
@@ -1074,45 +1083,55 @@ public class VM implements Warn {
         execute(child.getChild(0).getText(), null);
     }
 
+    /**
+     * A function defined in the bst file. The tree of the function is compiled once into instructions: literals are
+     * decoded, nested functions are compiled, and names are resolved on their first execution (and again only after a
+     * new name has been declared).
+     */
     public class StackFunction implements BstFunction {
 
         private final Tree localTree;
+        private final BstFunction[] instructions;
 
         public StackFunction(Tree stack) {
             localTree = stack;
+            instructions = new BstFunction[stack.getChildCount()];
+            for (int i = 0; i < instructions.length; i++) {
+                instructions[i] = compile(stack.getChild(i));
+            }
         }
 
         public Tree getTree() {
             return localTree;
         }
 
+        private BstFunction compile(Tree c) {
+            switch (c.getType()) {
+                case BstParser.STRING:
+                    String s = c.getText();
+                    String string = s.substring(1, s.length() - 1);
+                    return context -> stack.push(string);
+                case BstParser.INTEGER:
+                    Integer integer = Integer.parseInt(c.getText().substring(1));
+                    return context -> stack.push(integer);
+                case BstParser.QUOTED:
+                    Identifier identifier = new Identifier(c.getText().substring(1));
+                    return context -> stack.push(identifier);
+                case BstParser.STACK:
+                    StackFunction function = new StackFunction(c);
+                    return context -> stack.push(function);
+                default:
+                    return new NameFunction(c.getText());
+            }
+        }
+
         @Override
         public void execute(BstEntry context) {
-
-            for (int i = 0; i < localTree.getChildCount(); i++) {
-
-                Tree c = localTree.getChild(i);
+            for (int i = 0; i < instructions.length; i++) {
                 try {
-
-                    switch (c.getType()) {
-                        case BstParser.STRING:
-                            String s = c.getText();
-                            push(s.substring(1, s.length() - 1));
-                            break;
-                        case BstParser.INTEGER:
-                            push(Integer.parseInt(c.getText().substring(1)));
-                            break;
-                        case BstParser.QUOTED:
-                            push(new Identifier(c.getText().substring(1)));
-                            break;
-                        case BstParser.STACK:
-                            push(c);
-                            break;
-                        default:
-                            VM.this.execute(c.getText(), context);
-                            break;
-                    }
+                    instructions[i].execute(context);
                 } catch (VMException e) {
+                    Tree c = localTree.getChild(i);
                     if (file == null) {
                         LOGGER.error("ERROR " + e.getMessage() + " (" + c.getLine() + ")");
                     } else {
@@ -1125,8 +1144,64 @@ public class VM implements Warn {
         }
     }
 
-    private void push(Tree t) {
-        stack.push(t);
+    private enum NameKind {
+        FIELD, LOCAL_STRING, LOCAL_INTEGER, STRING, INTEGER, FUNCTION
+    }
+
+    /**
+     * Executes a name inside a function, like {@link #execute(String, BstEntry)}, but remembers what the name refers
+     * to. All entries declare the same fields and entry variables, so the resolution only depends on whether there is
+     * an entry at all.
+     */
+    private class NameFunction implements BstFunction {
+
+        private final String name;
+        private int resolvedVersion = -1;
+        private boolean resolvedInContext;
+        private NameKind kind;
+        private BstFunction function;
+
+        NameFunction(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void execute(BstEntry context) {
+            if ((resolvedVersion != declarationVersion) || (resolvedInContext != (context != null))) {
+                resolve(context);
+            }
+
+            switch (kind) {
+                case FIELD -> stack.push(context.fields.get(name));
+                case LOCAL_STRING -> stack.push(context.localStrings.get(name));
+                case LOCAL_INTEGER -> stack.push(context.localIntegers.get(name));
+                case STRING -> stack.push(strings.get(name));
+                case INTEGER -> stack.push(integers.get(name));
+                case FUNCTION -> function.execute(context);
+            }
+        }
+
+        private void resolve(BstEntry context) {
+            function = null;
+            if ((context != null) && context.fields.containsKey(name)) {
+                kind = NameKind.FIELD;
+            } else if ((context != null) && context.localStrings.containsKey(name)) {
+                kind = NameKind.LOCAL_STRING;
+            } else if ((context != null) && context.localIntegers.containsKey(name)) {
+                kind = NameKind.LOCAL_INTEGER;
+            } else if (strings.containsKey(name)) {
+                kind = NameKind.STRING;
+            } else if (integers.containsKey(name)) {
+                kind = NameKind.INTEGER;
+            } else if (functions.containsKey(name)) {
+                kind = NameKind.FUNCTION;
+                function = functions.get(name);
+            } else {
+                throw new VMException("No matching identifier found: " + name);
+            }
+            resolvedVersion = declarationVersion;
+            resolvedInContext = context != null;
+        }
     }
 
     private void execute(String name, BstEntry context) {
@@ -1167,7 +1242,8 @@ public class VM implements Warn {
     private void function(Tree child) {
         String name = child.getChild(0).getText();
         Tree localStack = child.getChild(1);
-        functions.put(name, new StackFunction(localStack));
+        functions.put(name, compiledFunctions.computeIfAbsent(localStack, StackFunction::new));
+        declarationVersion++;
     }
 
     /**
@@ -1182,6 +1258,7 @@ public class VM implements Warn {
             String name = t.getChild(i).getText();
             integers.put(name, 0);
         }
+        declarationVersion++;
     }
 
     /**
@@ -1197,6 +1274,7 @@ public class VM implements Warn {
             String name = t.getChild(i).getText();
             strings.put(name, null);
         }
+        declarationVersion++;
     }
 
     public static class BstEntry {
@@ -1215,18 +1293,10 @@ public class VM implements Warn {
         }
     }
 
-    private void push(Integer integer) {
-        stack.push(integer);
-    }
-
     private void push(String string) {
         stack.push(string);
     }
 
-    private void push(Identifier identifier) {
-        stack.push(identifier);
-    }
-
     public Map<String, String> getStrings() {
         return strings;
     }
@@ -1243,7 +1313,7 @@ public class VM implements Warn {
         return functions;
     }
 
-    public Stack<Object> getStack() {
+    public BstStack getStack() {
         return stack;
     }
 
@@ -5,7 +5,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
@@ -30,59 +29,41 @@ import org.jbibtex.DigitStringValue;
 import org.jbibtex.Key;
 
 /**
- * Provides an adapter class to CSL. It holds a CSL instance under the hood that is only recreated when
- * the style changes.
+ * Provides an adapter class to CSL. It holds a CSL instance for one style and output format under the hood.
  *
- * @apiNote The first call to {@link #makeBibliography} is expensive since the
- * CSL instance will be created. As long as the style stays the same, we can reuse this instance. On style-change, the
- * engine is re-instantiated. Therefore, the use-case of this class is many calls to {@link #makeBibliography} with the
- * same style. Changing the output format is cheap.
- * @implNote The main function {@link #makeBibliography} will enforce
- * synchronized calling. The main CSL engine under the hood is not thread-safe. Since this class is usually called from
- * a BackgroundTakk, the only other option would be to create several CSL instances which is wasting a lot of resources and very slow.
- * In the current scheme, {@link #makeBibliography} can be called as usual
- * background task and to the best of my knowledge, concurrent calls will pile up and processed sequentially.
+ * @apiNote Creating an adapter is expensive since the CSL instance is created. Therefore, the use-case of this class is
+ * many calls to {@link #makeBibliography} with the same adapter. Adapters are reused by {@link CSLAdapterPool}.
+ * @implNote The CSL engine under the hood is not thread-safe. Therefore, an adapter must only be used by one thread at a
+ * time.
  */
 public class CSLAdapter {
 
     private static final BibTeXConverter BIBTEX_CONVERTER = new BibTeXConverter();
     private final JabRefItemDataProvider dataProvider = new JabRefItemDataProvider();
-    private String style;
-    private CitationStyleOutputFormat format;
-    private CSL cslInstance;
+    private final CSL cslInstance;
 
     /**
-     * Creates the bibliography of the provided items. This method needs to run synchronized because the underlying
-     * CSL engine is not thread-safe.
-     * @param databaseContext {@link BibDatabaseContext} is used to be able to resolve fields and their aliases
+     * @param style        journal style of the output
+     * @param outputFormat usually HTML or RTF.
+     * @throws IOException An error occurred in the underlying JavaScript framework
      */
-    public synchronized List<String> makeBibliography(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) throws IOException, IllegalArgumentException {
-        dataProvider.setData(bibEntries, databaseContext, entryTypesManager);
-        initialize(style, outputFormat);
-        cslInstance.registerCitationItems(dataProvider.getIds());
-        final Bibliography bibliography = cslInstance.makeBibliography();
-        return Arrays.asList(bibliography.getEntries());
+    public CSLAdapter(String style, CitationStyleOutputFormat outputFormat) throws IOException {
+        // lang and forceLang are set to the default values of other CSL constructors
+        cslInstance = new CSL(dataProvider, new JabRefLocaleProvider(),
+                new DefaultAbbreviationProvider(), style, "en-US");
+        cslInstance.setOutputFormat(outputFormat.getFormat());
     }
 
     /**
-     * Initialized the static CSL instance if needed.
+     * Creates the bibliography of the provided items.
      *
-     * @param newStyle  journal style of the output
-     * @param newFormat usually HTML or RTF.
-     * @throws IOException An error occurred in the underlying JavaScript framework
+     * @param databaseContext {@link BibDatabaseContext} is used to be able to resolve fields and their aliases
      */
-    private void initialize(String newStyle, CitationStyleOutputFormat newFormat) throws IOException {
-        if ((cslInstance == null) || !Objects.equals(newStyle, style)) {
-            // lang and forceLang are set to the default values of other CSL constructors
-            cslInstance = new CSL(dataProvider, new JabRefLocaleProvider(),
-                    new DefaultAbbreviationProvider(), newStyle, "en-US");
-            style = newStyle;
-        }
-
-        if (!Objects.equals(newFormat, format)) {
-            cslInstance.setOutputFormat(newFormat.getFormat());
-            format = newFormat;
-        }
+    public List<String> makeBibliography(List<BibEntry> bibEntries, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) throws IOException, IllegalArgumentException {
+        dataProvider.setData(bibEntries, databaseContext, entryTypesManager);
+        cslInstance.registerCitationItems(dataProvider.getIds());
+        final Bibliography bibliography = cslInstance.makeBibliography();
+        return Arrays.asList(bibliography.getEntries());
     }
 
     /**
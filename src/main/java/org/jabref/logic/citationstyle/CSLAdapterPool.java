@@ -0,0 +1,201 @@
+package org.jabref.logic.citationstyle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.Lists;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of {@link CSLAdapter}s for each citation style and output format.
+ * <p>
+ * A CSL engine is expensive to create and can only be used by one thread at a time. Instead of sharing a single engine
+ * for all styles, each style and output format gets up to {@link #ENGINES_PER_STYLE} engines, which are reused as long
+ * as the style is used. The engines of the styles used least recently are dropped.
+ */
+class CSLAdapterPool {
+
+    static final int ENGINES_PER_STYLE = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    // The minimal number of entries a bibliography is split into to be generated by several engines
+    static final int MINIMAL_BATCH_SIZE = 100;
+
+    private static final int MAXIMUM_STYLES = 8;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CSLAdapterPool.class);
+
+    private final LoadingCache<StyleKey, Engines> engines = CacheBuilder.newBuilder()
+                                                                        .maximumSize(MAXIMUM_STYLES)
+                                                                        .build(CacheLoader.from(Engines::new));
+
+    /**
+     * Creates the bibliography of the given entries in the given style. If the entries of the style are formatted
+     * independently of each other (see {@link #formatsEntriesIndependently(String)}), large bibliographies are split
+     * into batches which are generated in parallel.
+     */
+    List<String> makeBibliography(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) throws IOException {
+        Engines enginesOfStyle = engines.getUnchecked(new StyleKey(style, outputFormat));
+        int batches = Math.min(ENGINES_PER_STYLE, bibEntries.size() / MINIMAL_BATCH_SIZE);
+        if ((batches < 2) || !enginesOfStyle.formatsEntriesIndependently()) {
+            return enginesOfStyle.makeBibliography(bibEntries, databaseContext, entryTypesManager);
+        }
+
+        enginesOfStyle.warmUp(batches);
+        int batchSize = (bibEntries.size() + batches - 1) / batches;
+        try {
+            return Lists.partition(bibEntries, batchSize)
+                        .parallelStream()
+                        .map(batch -> {
+                            try {
+                                return enginesOfStyle.makeBibliography(batch, databaseContext, entryTypesManager);
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        })
+                        .flatMap(List::stream)
+                        .collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Creates engines for the given style in advance, so that the given number of threads can generate bibliographies
+     * right away. At most {@link #ENGINES_PER_STYLE} engines are created.
+     */
+    void warmUp(String style, CitationStyleOutputFormat outputFormat, int count) {
+        engines.getUnchecked(new StyleKey(style, outputFormat)).warmUp(count);
+    }
+
+    /**
+     * Returns the number of engines kept for the given style, including the ones in use
+     */
+    int getNumberOfEngines(String style, CitationStyleOutputFormat outputFormat) {
+        return engines.getUnchecked(new StyleKey(style, outputFormat)).numberOfEngines.get();
+    }
+
+    /**
+     * Returns whether the style formats each entry of the bibliography independently of the other entries, so that a
+     * bibliography can be put together from the bibliographies of parts of the entries. This is not the case if the
+     * style sorts or numbers the entries, disambiguates them or substitutes repeated authors. The check is conservative:
+     * the style source is searched for the corresponding CSL elements and attributes only.
+     */
+    static boolean formatsEntriesIndependently(String style) {
+        int bibliography = style.indexOf("<bibliography");
+        return (bibliography >= 0)
+                && !style.contains("citation-number")
+                && !style.contains("disambiguate")
+                && !style.contains("subsequent-author-substitute")
+                && !style.substring(bibliography).contains("<sort");
+    }
+
+    private record StyleKey(String style, CitationStyleOutputFormat outputFormat) {
+    }
+
+    /**
+     * The engines of one style and output format. An engine is only kept if a slot was reserved for it in
+     * {@link #numberOfEngines} before it was created, so that no more than {@link #ENGINES_PER_STYLE} engines are kept.
+     */
+    private static class Engines {
+
+        private final StyleKey key;
+        private final boolean formatsEntriesIndependently;
+        private final Semaphore permits = new Semaphore(ENGINES_PER_STYLE);
+        private final Deque<CSLAdapter> idleEngines = new ConcurrentLinkedDeque<>();
+        private final AtomicInteger numberOfEngines = new AtomicInteger();
+
+        Engines(StyleKey key) {
+            this.key = key;
+            this.formatsEntriesIndependently = CSLAdapterPool.formatsEntriesIndependently(key.style());
+        }
+
+        boolean formatsEntriesIndependently() {
+            return formatsEntriesIndependently;
+        }
+
+        List<String> makeBibliography(List<BibEntry> bibEntries, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) throws IOException {
+            permits.acquireUninterruptibly();
+            try {
+                CSLAdapter engine = idleEngines.pollFirst();
+                // If all slots are taken by engines still created by a warm-up, a temporary engine is used
+                boolean kept = (engine != null) || reserveEngine();
+                if (engine == null) {
+                    engine = createEngine(kept);
+                }
+                List<String> bibliography;
+                try {
+                    bibliography = engine.makeBibliography(bibEntries, databaseContext, entryTypesManager);
+                } catch (IOException | RuntimeException e) {
+                    // The state of the engine is unknown, so it is not used again
+                    if (kept) {
+                        numberOfEngines.decrementAndGet();
+                    }
+                    throw e;
+                }
+                if (kept) {
+                    idleEngines.offerFirst(engine);
+                }
+                return bibliography;
+            } finally {
+                permits.release();
+            }
+        }
+
+        void warmUp(int count) {
+            int missingEngines = Math.min(count, ENGINES_PER_STYLE) - numberOfEngines.get();
+            IntStream.range(0, missingEngines).parallel().forEach(i -> {
+                if (!reserveEngine()) {
+                    return;
+                }
+                try {
+                    idleEngines.offerLast(createEngine(true));
+                } catch (IOException | IllegalArgumentException e) {
+                    LOGGER.debug("Could not create CSL engine in advance", e);
+                }
+            });
+        }
+
+        /**
+         * Reserves a slot for a new engine, if there are less than {@link #ENGINES_PER_STYLE} engines
+         */
+        private boolean reserveEngine() {
+            int engines = numberOfEngines.get();
+            while (engines < ENGINES_PER_STYLE) {
+                if (numberOfEngines.compareAndSet(engines, engines + 1)) {
+                    return true;
+                }
+                engines = numberOfEngines.get();
+            }
+            return false;
+        }
+
+        /**
+         * Creates an engine. If a slot was reserved for it, the slot is freed again if the engine cannot be created.
+         */
+        private CSLAdapter createEngine(boolean reserved) throws IOException {
+            try {
+                return new CSLAdapter(key.style(), key.outputFormat());
+            } catch (IOException | RuntimeException e) {
+                if (reserved) {
+                    numberOfEngines.decrementAndGet();
+                }
+                throw e;
+            }
+        }
+    }
+}
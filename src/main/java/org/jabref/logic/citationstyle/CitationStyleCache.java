@@ -14,8 +14,10 @@ import com.google.common.cache.LoadingCache;
 import com.google.common.eventbus.Subscribe;
 
 /**
- * Caches the generated Citations for quicker access
- * {@link CitationStyleGenerator} generates the citation with JavaScript which may take some time
+ * Caches the generated Citations of the entries of a library for quicker access
+ * {@link CitationStyleGenerator} generates the citation with JavaScript which may take some time. It caches the
+ * citations of all libraries by the content of the entries as well, so citations are not generated again after this
+ * cache is cleared (e.g., when switching back to a previous style).
  */
 public class CitationStyleCache {
 
@@ -47,7 +49,7 @@ public class CitationStyleCache {
 
     public void setCitationStyle(PreviewLayout citationStyle) {
         Objects.requireNonNull(citationStyle);
-        if (!this.citationStyle.equals(citationStyle)) {
+        if (!citationStyle.equals(this.citationStyle)) {
             this.citationStyle = citationStyle;
             this.citationStyleCache.invalidateAll();
         }
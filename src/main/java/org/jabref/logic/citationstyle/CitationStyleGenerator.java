@@ -3,24 +3,40 @@ package org.jabref.logic.citationstyle;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.EntryType;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import org.jbibtex.TokenMgrException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Facade to unify the access to the citation style engine. Use these methods if you need rendered BibTeX item(s) in a
- * given journal style. This class uses {@link CSLAdapter} to create output.
+ * given journal style. This class uses the {@link CSLAdapter}s of a {@link CSLAdapterPool} to create output.
+ * <p>
+ * The citations of single entries are cached by the style, the output format and the content of the entry, so the
+ * citation of an entry is only generated again if the entry changes.
  */
 public class CitationStyleGenerator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CitationStyleGenerator.class);
-    private static final CSLAdapter CSL_ADAPTER = new CSLAdapter();
+    private static final CSLAdapterPool CSL_ADAPTERS = new CSLAdapterPool();
+    private static final Cache<CitationCacheKey, String> CITATIONS = CacheBuilder.newBuilder()
+                                                                                 .maximumSize(4096)
+                                                                                 .recordStats()
+                                                                                 .build();
 
     private CitationStyleGenerator() {
     }
@@ -49,31 +65,78 @@ public class CitationStyleGenerator {
      * @implNote the citation is generated using JavaScript which may take some time, better call it from outside the main Thread
      */
     public static String generateCitation(BibEntry entry, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) {
-        return generateCitations(Collections.singletonList(entry), style, outputFormat, databaseContext, entryTypesManager).stream().findFirst().orElse("");
+        Optional<CitationCacheKey> key = CitationCacheKey.of(entry, style, outputFormat, databaseContext, entryTypesManager);
+        Optional<String> cachedCitation = key.map(CITATIONS::getIfPresent);
+        if (cachedCitation.isPresent()) {
+            return cachedCitation.get();
+        }
+
+        try {
+            String citation = CSL_ADAPTERS.makeBibliography(Collections.singletonList(entry), style, outputFormat, databaseContext, entryTypesManager)
+                                          .stream().findFirst().orElse("");
+            key.ifPresent(cacheKey -> CITATIONS.put(cacheKey, citation));
+            return citation;
+        } catch (IllegalArgumentException | IOException | ArrayIndexOutOfBoundsException | TokenMgrException e) {
+            return getErrorMessage(e, outputFormat);
+        }
     }
 
     /**
-     * Generates the citation for multiple entries at once.
+     * Generates the citation for multiple entries at once. Large lists of entries may be split across several citation
+     * style engines.
      *
      * @implNote The citations are generated using JavaScript which may take some time, better call it from outside the main thread.
      */
     public static List<String> generateCitations(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) {
         try {
-            return CSL_ADAPTER.makeBibliography(bibEntries, style, outputFormat, databaseContext, entryTypesManager);
-        } catch (IllegalArgumentException e) {
-            LOGGER.error("Could not generate BibEntry citation. The CSL engine could not create a preview for your item.", e);
-            return Collections.singletonList(Localization.lang("Cannot generate preview based on selected citation style."));
-        } catch (IOException | ArrayIndexOutOfBoundsException e) {
-            LOGGER.error("Could not generate BibEntry citation", e);
-            return Collections.singletonList(Localization.lang("Cannot generate preview based on selected citation style."));
-        } catch (TokenMgrException e) {
-            LOGGER.error("Bad character inside BibEntry", e);
+            return CSL_ADAPTERS.makeBibliography(bibEntries, style, outputFormat, databaseContext, entryTypesManager);
+        } catch (IllegalArgumentException | IOException | ArrayIndexOutOfBoundsException | TokenMgrException e) {
+            return Collections.singletonList(getErrorMessage(e, outputFormat));
+        }
+    }
+
+    private static String getErrorMessage(Exception exception, CitationStyleOutputFormat outputFormat) {
+        if (exception instanceof TokenMgrException) {
+            LOGGER.error("Bad character inside BibEntry", exception);
             // sadly one cannot easily retrieve the bad char from the TokenMgrError
-            return Collections.singletonList(Localization.lang("Cannot generate preview based on selected citation style.") +
+            return Localization.lang("Cannot generate preview based on selected citation style.") +
                     outputFormat.getLineSeparator() +
                     Localization.lang("Bad character inside entry") +
                     outputFormat.getLineSeparator() +
-                    e.getLocalizedMessage());
+                    exception.getLocalizedMessage();
+        }
+        if (exception instanceof IllegalArgumentException) {
+            LOGGER.error("Could not generate BibEntry citation. The CSL engine could not create a preview for your item.", exception);
+        } else {
+            LOGGER.error("Could not generate BibEntry citation", exception);
+        }
+        return Localization.lang("Cannot generate preview based on selected citation style.");
+    }
+
+    public static CacheStats getCacheStats() {
+        return CITATIONS.stats();
+    }
+
+    /**
+     * Identifies the citation of an entry by the style, the output format and the content of the entry
+     */
+    private record CitationCacheKey(String style,
+                                    CitationStyleOutputFormat outputFormat,
+                                    BibDatabaseMode mode,
+                                    BibEntryTypesManager entryTypesManager,
+                                    EntryType type,
+                                    Map<Field, String> fields) {
+
+        /**
+         * Returns the key of the citation of the entry, or an empty optional if the citation also depends on other
+         * entries or the strings of the database (i.e. the entry has a cross-reference or a string reference).
+         */
+        static Optional<CitationCacheKey> of(BibEntry entry, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) {
+            Map<Field, String> fields = Map.copyOf(entry.getFieldMap());
+            if (fields.containsKey(StandardField.CROSSREF) || fields.values().stream().anyMatch(value -> value.indexOf('#') >= 0)) {
+                return Optional.empty();
+            }
+            return Optional.of(new CitationCacheKey(style, outputFormat, databaseContext.getMode(), entryTypesManager, entry.getType(), fields));
         }
     }
 }
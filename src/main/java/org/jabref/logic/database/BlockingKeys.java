@@ -0,0 +1,119 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Random;
+
+import org.jabref.model.entry.Author;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.strings.StringUtil;
+
+/**
+ * The keys of the blocks an entry belongs to when searching for duplicates, see {@link DuplicateFinder}.
+ *
+ * @param type           the lower-cased name of the entry type
+ * @param keys           the identifier, title and author-year keys of the entry
+ * @param hasContentKeys whether the entry has a title or an author and a year. Otherwise, it has to be compared to all
+ *                       entries of its type.
+ */
+record BlockingKeys(String type, List<String> keys, boolean hasContentKeys) {
+
+    private static final int SHINGLE_LENGTH = 3;
+    private static final int BANDS = 8;
+    private static final int ROWS_PER_BAND = 4;
+    private static final int[] MIN_HASH_SEEDS = new Random(42).ints(BANDS * ROWS_PER_BAND).toArray();
+
+    static BlockingKeys of(BibEntry entry) {
+        String type = entry.getType().getName().toLowerCase(Locale.ROOT);
+        List<String> keys = new ArrayList<>();
+
+        for (Field field : FieldFactory.getIdentifierFieldNames()) {
+            entry.getField(field).ifPresent(value -> keys.add("identifier:" + field.getName() + ":" + value));
+        }
+        entry.getDOI().ifPresent(doi -> keys.add("doi:" + doi.getDOI().toLowerCase(Locale.ROOT)));
+        entry.getISBN().ifPresent(isbn -> keys.add("isbn:" + isbn.getNormalized().toLowerCase(Locale.ROOT)));
+
+        boolean hasContentKeys = false;
+        Optional<String> title = entry.getLatexFreeField(StandardField.TITLE).map(BlockingKeys::normalizeTitle).filter(StringUtil::isNotBlank);
+        if (title.isPresent()) {
+            int[] signature = getMinHashSignature(title.get());
+            for (int band = 0; band < BANDS; band++) {
+                int bandHash = Arrays.hashCode(Arrays.copyOfRange(signature, band * ROWS_PER_BAND, (band + 1) * ROWS_PER_BAND));
+                keys.add("title:" + type + ":" + band + ":" + bandHash);
+            }
+            hasContentKeys = true;
+        }
+
+        Optional<String> year = entry.getFieldOrAlias(StandardField.YEAR).map(String::trim).filter(StringUtil::isNotBlank);
+        Optional<String> firstAuthor = entry.getField(StandardField.AUTHOR)
+                                            .or(() -> entry.getField(StandardField.EDITOR))
+                                            .flatMap(names -> AuthorList.parse(names).getAuthors().stream().findFirst())
+                                            .flatMap(Author::getLast)
+                                            .map(lastName -> lastName.toLowerCase(Locale.ROOT));
+        if (year.isPresent() && firstAuthor.isPresent()) {
+            keys.add("author-year:" + type + ":" + firstAuthor.get() + ":" + year.get());
+            hasContentKeys = true;
+        }
+
+        return new BlockingKeys(type, keys, hasContentKeys);
+    }
+
+    /**
+     * Lower-cases the title and replaces each run of characters other than letters and digits by a single space
+     */
+    private static String normalizeTitle(String title) {
+        StringBuilder normalized = new StringBuilder(title.length());
+        boolean separated = true;
+        for (char character : title.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (Character.isLetterOrDigit(character)) {
+                normalized.append(character);
+                separated = false;
+            } else if (!separated) {
+                normalized.append(' ');
+                separated = true;
+            }
+        }
+        return normalized.toString().trim();
+    }
+
+    /**
+     * Computes the MinHash signature of the set of character shingles of the given text. Two texts have the same value
+     * at a position of their signatures with a probability equal to the Jaccard similarity of their sets of shingles.
+     */
+    private static int[] getMinHashSignature(String text) {
+        int[] signature = new int[MIN_HASH_SEEDS.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+
+        int numberOfShingles = Math.max(1, (text.length() - SHINGLE_LENGTH) + 1);
+        for (int start = 0; start < numberOfShingles; start++) {
+            int shingleHash = 0;
+            for (int i = start; i < Math.min(text.length(), start + SHINGLE_LENGTH); i++) {
+                shingleHash = (31 * shingleHash) + text.charAt(i);
+            }
+            for (int i = 0; i < MIN_HASH_SEEDS.length; i++) {
+                signature[i] = Math.min(signature[i], mix(shingleHash ^ MIN_HASH_SEEDS[i]));
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * The finalization step of MurmurHash3, which spreads the bits of the given value over the whole hash
+     */
+    private static int mix(int value) {
+        int hash = value;
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+}
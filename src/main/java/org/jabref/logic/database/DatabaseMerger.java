@@ -2,7 +2,6 @@ package org.jabref.logic.database;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
@@ -54,11 +53,9 @@ public class DatabaseMerger {
     }
 
     private void mergeEntries(BibDatabase target, BibDatabase other) {
-        DuplicateCheck duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
-        List<BibEntry> newEntries = other.getEntries().stream()
-                                         // Remove all entries that are already part of the database (duplicate)
-                                         .filter(entry -> duplicateCheck.containsDuplicate(target, entry, BibDatabaseModeDetection.inferMode(target)).isEmpty())
-                                         .collect(Collectors.toList());
+        DuplicateIndex duplicateIndex = new DuplicateIndex(target, BibDatabaseModeDetection.inferMode(target), new BibEntryTypesManager());
+        // Remove all entries that are already part of the database (duplicate)
+        List<BibEntry> newEntries = duplicateIndex.getEntriesWithoutDuplicate(other.getEntries());
         target.insertEntries(newEntries);
     }
 
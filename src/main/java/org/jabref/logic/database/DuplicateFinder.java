@@ -0,0 +1,107 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+
+/**
+ * Finds all pairs of duplicates in a list of entries without checking every pair of entries.
+ * <p>
+ * The entries are put into blocks by keys which duplicates (as determined by {@link DuplicateCheck}) usually share:
+ * <ul>
+ *     <li>their identifiers (DOI, ISBN, eprint, PMID),</li>
+ *     <li>the bands of a MinHash signature of the character trigrams of their title (locality-sensitive hashing), and</li>
+ *     <li>their year together with the last name of their first author.</li>
+ * </ul>
+ * Except for the identifiers, the keys include the entry type, as entries of different types are no duplicates. Only
+ * the pairs of entries sharing a block are checked, in parallel. Entries without title and without author and year are
+ * checked against all entries of their type.
+ */
+public class DuplicateFinder {
+
+    private final DuplicateCheck duplicateCheck;
+
+    public DuplicateFinder(BibEntryTypesManager entryTypesManager) {
+        this.duplicateCheck = new DuplicateCheck(entryTypesManager);
+    }
+
+    /**
+     * Finds the pairs of entries which are duplicates of each other. The first entry of each pair comes before the second
+     * one in the given list, and the pairs are ordered by the position of their first and then of their second entry.
+     * <p>
+     * If the current thread is interrupted, the search stops and the result is incomplete.
+     *
+     * @return the pairs of duplicates, each a list of two entries
+     */
+    public List<List<BibEntry>> findDuplicates(List<BibEntry> entriesToSearch, BibDatabaseMode databaseMode) {
+        Thread searchingThread = Thread.currentThread();
+        List<BibEntry> entries = new ArrayList<>(entriesToSearch);
+
+        List<BlockingKeys> blockingKeys = entries.parallelStream()
+                                                 .map(BlockingKeys::of)
+                                                 .collect(Collectors.toList());
+
+        return Arrays.stream(getCandidatePairs(blockingKeys))
+                     .parallel()
+                     .filter(pair -> !searchingThread.isInterrupted())
+                     .mapToObj(pair -> Arrays.asList(entries.get(getFirst(pair)), entries.get(getSecond(pair))))
+                     .filter(pair -> duplicateCheck.isDuplicate(pair.get(0), pair.get(1), databaseMode))
+                     .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the pairs of indices of entries sharing a block, sorted and without duplicates
+     */
+    private static long[] getCandidatePairs(List<BlockingKeys> blockingKeys) {
+        Map<String, List<Integer>> blocks = new HashMap<>();
+        Map<String, List<Integer>> entriesByType = new HashMap<>();
+        List<Integer> unblockedEntries = new ArrayList<>();
+        for (int i = 0; i < blockingKeys.size(); i++) {
+            BlockingKeys keys = blockingKeys.get(i);
+            for (String key : keys.keys()) {
+                blocks.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+            }
+            entriesByType.computeIfAbsent(keys.type(), k -> new ArrayList<>()).add(i);
+            if (!keys.hasContentKeys()) {
+                unblockedEntries.add(i);
+            }
+        }
+
+        LongStream.Builder pairs = LongStream.builder();
+        for (List<Integer> block : blocks.values()) {
+            for (int first = 0; first < block.size() - 1; first++) {
+                for (int second = first + 1; second < block.size(); second++) {
+                    pairs.add(toPair(block.get(first), block.get(second)));
+                }
+            }
+        }
+        for (int unblocked : unblockedEntries) {
+            for (int other : entriesByType.get(blockingKeys.get(unblocked).type())) {
+                if (other != unblocked) {
+                    pairs.add(toPair(Math.min(unblocked, other), Math.max(unblocked, other)));
+                }
+            }
+        }
+        return pairs.build().sorted().distinct().toArray();
+    }
+
+    private static long toPair(int first, int second) {
+        return ((long) first << 32) | second;
+    }
+
+    private static int getFirst(long pair) {
+        return (int) (pair >>> 32);
+    }
+
+    private static int getSecond(long pair) {
+        return (int) pair;
+    }
+}
@@ -0,0 +1,98 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+
+/**
+ * Index to look up duplicates (as determined by {@link DuplicateCheck}) of arbitrary entries in a library without
+ * comparing them to all entries of the library.
+ * <p>
+ * The entries of the library are put into blocks by their identifiers, their normalized title and their first author
+ * and year (see {@link DuplicateFinder}). An entry is only compared to the entries sharing one of its blocks and to the
+ * entries of its type which could not be put into a block by title or author and year.
+ * <p>
+ * The index is a snapshot of the library at the time it was built: later changes of the library are not reflected.
+ */
+public class DuplicateIndex {
+
+    private final List<BibEntry> entries;
+    private final BibDatabaseMode databaseMode;
+    private final DuplicateCheck duplicateCheck;
+
+    private final Map<String, List<Integer>> blocks = new HashMap<>();
+    private final Map<String, List<Integer>> entriesByType = new HashMap<>();
+    private final Map<String, List<Integer>> unblockedEntriesByType = new HashMap<>();
+
+    public DuplicateIndex(BibDatabase database, BibDatabaseMode databaseMode, BibEntryTypesManager entryTypesManager) {
+        this.entries = new ArrayList<>(database.getEntries());
+        this.databaseMode = databaseMode;
+        this.duplicateCheck = new DuplicateCheck(entryTypesManager);
+
+        List<BlockingKeys> blockingKeys = entries.parallelStream()
+                                                 .map(BlockingKeys::of)
+                                                 .collect(Collectors.toList());
+        for (int i = 0; i < blockingKeys.size(); i++) {
+            BlockingKeys keys = blockingKeys.get(i);
+            for (String key : keys.keys()) {
+                blocks.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+            }
+            entriesByType.computeIfAbsent(keys.type(), k -> new ArrayList<>()).add(i);
+            if (!keys.hasContentKeys()) {
+                unblockedEntriesByType.computeIfAbsent(keys.type(), k -> new ArrayList<>()).add(i);
+            }
+        }
+    }
+
+    /**
+     * Returns the first entry of the library (in the order of the library) which is a duplicate of the given entry, just
+     * like {@link DuplicateCheck#containsDuplicate(BibDatabase, BibEntry, BibDatabaseMode)}.
+     */
+    public Optional<BibEntry> getDuplicate(BibEntry entry) {
+        return getCandidates(BlockingKeys.of(entry)).mapToObj(entries::get)
+                                                    .filter(candidate -> duplicateCheck.isDuplicate(entry, candidate, databaseMode))
+                                                    .findFirst();
+    }
+
+    /**
+     * Returns the given entries which have no duplicate in the library, in their order. The entries are checked in
+     * parallel.
+     */
+    public List<BibEntry> getEntriesWithoutDuplicate(Collection<BibEntry> entriesToCheck) {
+        return entriesToCheck.parallelStream()
+                             .filter(entry -> getDuplicate(entry).isEmpty())
+                             .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns whether at least one of the given entries has a duplicate in the library. The entries are checked in
+     * parallel.
+     */
+    public boolean hasDuplicate(Collection<BibEntry> entriesToCheck) {
+        return entriesToCheck.parallelStream().anyMatch(entry -> getDuplicate(entry).isPresent());
+    }
+
+    /**
+     * Returns the positions of the entries of the library the entry with the given keys has to be compared to, sorted
+     * and without duplicates
+     */
+    private IntStream getCandidates(BlockingKeys keys) {
+        IntStream.Builder candidates = IntStream.builder();
+        for (String key : keys.keys()) {
+            blocks.getOrDefault(key, List.of()).forEach(candidates::add);
+        }
+        Map<String, List<Integer>> entriesOfType = keys.hasContentKeys() ? unblockedEntriesByType : entriesByType;
+        entriesOfType.getOrDefault(keys.type(), List.of()).forEach(candidates::add);
+        return candidates.build().sorted().distinct();
+    }
+}
@@ -1,6 +1,8 @@
 package org.jabref.logic.exporter;
 
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -19,10 +21,10 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.jabref.logic.bibtex.comparator.BibEntrySorter;
 import org.jabref.logic.bibtex.comparator.BibtexStringComparator;
 import org.jabref.logic.bibtex.comparator.CrossRefEntryComparator;
 import org.jabref.logic.bibtex.comparator.FieldComparator;
-import org.jabref.logic.bibtex.comparator.FieldComparatorStack;
 import org.jabref.logic.bibtex.comparator.IdComparator;
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.logic.citationkeypattern.GlobalCitationKeyPattern;
@@ -55,6 +57,10 @@ import org.jabref.preferences.GeneralPreferences;
 public abstract class BibDatabaseWriter {
 
     private static final Pattern REFERENCE_PATTERN = Pattern.compile("(#[A-Za-z]+#)"); // Used to detect string references in strings
+
+    // Below this number of entries, writing the entries in parallel does not pay off
+    private static final int PARALLEL_WRITING_THRESHOLD = 1000;
+
     protected final BibWriter bibWriter;
     protected final GeneralPreferences generalPreferences;
     protected final SavePreferences savePreferences;
@@ -136,11 +142,7 @@ public abstract class BibDatabaseWriter {
         }
 
         List<Comparator<BibEntry>> comparators = getSaveComparators(bibDatabaseContext.getMetaData(), preferences);
-        FieldComparatorStack<BibEntry> comparatorStack = new FieldComparatorStack<>(comparators);
-
-        List<BibEntry> sorted = new ArrayList<>(entriesToSort);
-        sorted.sort(comparatorStack);
-        return sorted;
+        return BibEntrySorter.sort(entriesToSort, comparators);
     }
 
     private static Optional<SaveOrderConfig> getSaveOrder(MetaData metaData, SavePreferences preferences) {
@@ -217,10 +219,10 @@ public abstract class BibDatabaseWriter {
                 // Otherwise (enrich returns empty optional) it is a completely unknown entry type, so ignore it
                 entryTypesManager.enrich(entry.getType(), bibDatabaseContext.getMode()).ifPresent(typesToWrite::add);
             }
-
-            writeEntry(entry, bibDatabaseContext.getMode());
         }
 
+        writeEntries(sortedEntries, bibDatabaseContext.getMode());
+
         if (savePreferences.getSaveType() != SavePreferences.DatabaseSaveType.PLAIN_BIBTEX) {
             // Write meta data.
             writeMetaData(bibDatabaseContext.getMetaData(), savePreferences.getCitationKeyPatternPreferences().getKeyPattern());
@@ -235,7 +237,50 @@ public abstract class BibDatabaseWriter {
 
     protected abstract void writeProlog(BibDatabaseContext bibDatabaseContext, Charset encoding) throws IOException;
 
-    protected abstract void writeEntry(BibEntry entry, BibDatabaseMode mode) throws IOException;
+    /**
+     * Writes the given entries in their order. Large numbers of entries are first written into separate buffers in
+     * parallel. The result is the same as when writing the entries one after the other into the {@link BibWriter}.
+     */
+    private void writeEntries(List<BibEntry> entries, BibDatabaseMode mode) throws IOException {
+        if (entries.size() < PARALLEL_WRITING_THRESHOLD) {
+            for (BibEntry entry : entries) {
+                writeEntry(entry, bibWriter, mode);
+            }
+            return;
+        }
+
+        List<String> serializations;
+        try {
+            serializations = entries.parallelStream()
+                                    .map(entry -> serializeEntry(entry, mode))
+                                    .collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        for (String serialization : serializations) {
+            // An entry which did not write anything must not finish a block
+            if (!serialization.isEmpty()) {
+                bibWriter.write(serialization);
+                bibWriter.finishBlock();
+            }
+        }
+    }
+
+    private String serializeEntry(BibEntry entry, BibDatabaseMode mode) {
+        // The line breaks are converted to the ones of the target writer when the serialization is written
+        StringWriter writer = new StringWriter();
+        try {
+            writeEntry(entry, new BibWriter(writer, "\n"), mode);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Writes the given entry as a block to the given writer. May be called for different entries in parallel.
+     */
+    protected abstract void writeEntry(BibEntry entry, BibWriter out, BibDatabaseMode mode) throws IOException;
 
     protected abstract void writeEpilogue(String epilogue) throws IOException;
 
@@ -5,7 +5,9 @@ import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.Optional;
 
+import org.jabref.logic.bibtex.BibEntrySerializationCache;
 import org.jabref.logic.bibtex.BibEntryWriter;
 import org.jabref.logic.bibtex.FieldWriter;
 import org.jabref.logic.bibtex.InvalidFieldValueException;
@@ -31,12 +33,22 @@ public class BibtexDatabaseWriter extends BibDatabaseWriter {
     private static final String PREAMBLE_PREFIX = "@Preamble";
     private static final String STRING_PREFIX = "@String";
 
+    private final BibEntryWriter bibEntryWriter;
+
     public BibtexDatabaseWriter(BibWriter bibWriter, GeneralPreferences generalPreferences, SavePreferences savePreferences, BibEntryTypesManager entryTypesManager) {
+        this(bibWriter, generalPreferences, savePreferences, entryTypesManager, Optional.empty());
+    }
+
+    /**
+     * @param serializationCache cache for the serialization of changed entries, see {@link BibEntrySerializationCache}
+     */
+    public BibtexDatabaseWriter(BibWriter bibWriter, GeneralPreferences generalPreferences, SavePreferences savePreferences, BibEntryTypesManager entryTypesManager, Optional<BibEntrySerializationCache> serializationCache) {
         super(bibWriter, generalPreferences, savePreferences, entryTypesManager);
+        this.bibEntryWriter = new BibEntryWriter(new FieldWriter(savePreferences.getFieldWriterPreferences()), entryTypesManager, serializationCache);
     }
 
     public BibtexDatabaseWriter(Writer writer, String newline, GeneralPreferences generalPreferences, SavePreferences savePreferences, BibEntryTypesManager entryTypesManager) {
-        super(new BibWriter(writer, newline), generalPreferences, savePreferences, entryTypesManager);
+        this(new BibWriter(writer, newline), generalPreferences, savePreferences, entryTypesManager);
     }
 
     @Override
@@ -128,8 +140,7 @@ public class BibtexDatabaseWriter extends BibDatabaseWriter {
     }
 
     @Override
-    protected void writeEntry(BibEntry entry, BibDatabaseMode mode) throws IOException {
-        BibEntryWriter bibtexEntryWriter = new BibEntryWriter(new FieldWriter(savePreferences.getFieldWriterPreferences()), entryTypesManager);
-        bibtexEntryWriter.write(entry, bibWriter, mode, savePreferences.shouldReformatFile());
+    protected void writeEntry(BibEntry entry, BibWriter out, BibDatabaseMode mode) throws IOException {
+        bibEntryWriter.write(entry, out, mode, savePreferences.shouldReformatFile());
     }
 }
@@ -15,13 +15,6 @@ import org.jabref.model.entry.BibEntryTypesManager;
 
 public class ExporterFactory {
 
-    /**
-     * Global variable that is used for counting output entries when exporting:
-     *
-     * @deprecated find a better way to do this
-     */
-    @Deprecated public static int entryNumber;
-
     private final List<Exporter> exporters;
 
     private ExporterFactory(List<Exporter> exporters) {
@@ -15,17 +15,27 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.layout.Layout;
 import org.jabref.logic.layout.LayoutFormatterPreferences;
 import org.jabref.logic.layout.LayoutHelper;
+import org.jabref.logic.layout.format.FileLinkPreferences;
+import org.jabref.logic.layout.format.NameFormatterPreferences;
 import org.jabref.logic.util.FileType;
 import org.jabref.logic.util.OS;
 import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.types.EntryType;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,6 +53,11 @@ public class TemplateExporter extends Exporter {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TemplateExporter.class);
 
+    // Compiled layouts shared by all template exporters, see getLayout(String)
+    private static final Cache<LayoutKey, Optional<Layout>> LAYOUTS = CacheBuilder.newBuilder()
+                                                                                  .maximumSize(500)
+                                                                                  .build();
+
     private final String lfFileName;
     private final String directory;
     private final LayoutFormatterPreferences layoutPreferences;
@@ -140,15 +155,9 @@ public class TemplateExporter extends Exporter {
     }
 
     /**
-     * This method should return a reader from which the given layout file can be read.
-     * <p>
-     * Subclasses of TemplateExporter are free to override and provide their own implementation.
-     *
-     * @param filename the filename
-     * @return a newly created reader
-     * @throws IOException if the reader could not be created
+     * Returns the path the given layout file is looked up at, either in the classpath or in the file system.
      */
-    private Reader getReader(String filename) throws IOException {
+    private String getLayoutPath(String filename) {
         // If this is a custom export, just use the given filename:
         String dir;
         if (customExport) {
@@ -156,11 +165,21 @@ public class TemplateExporter extends Exporter {
         } else {
             dir = LAYOUT_PREFIX + (directory == null ? "" : directory + '/');
         }
+        return dir + filename;
+    }
 
+    /**
+     * This method should return a reader from which the given layout file can be read.
+     *
+     * @param name the path of the layout file, see {@link #getLayoutPath(String)}
+     * @return a newly created reader
+     * @throws FileNotFoundException if the layout file does not exist
+     * @throws IOException           if the reader could not be created
+     */
+    private Reader getReader(String name) throws IOException {
         // Attempt to get a Reader for the file path given, either by
         // loading it as a resource (from within JAR), or as a normal file. If
         // unsuccessful (e.g. file not found), an IOException is thrown.
-        String name = dir + filename;
         Reader reader;
         // Try loading as a resource first. This works for files inside the JAR:
         URL reso = TemplateExporter.class.getResource(name);
@@ -174,12 +193,35 @@ public class TemplateExporter extends Exporter {
                 reader = new InputStreamReader(reso.openStream());
             }
         } catch (FileNotFoundException ex) {
-            throw new IOException("Cannot find layout file: '" + name + "'.");
+            throw new FileNotFoundException("Cannot find layout file: '" + name + "'.");
         }
 
         return reader;
     }
 
+    /**
+     * Returns the compiled layout of the given layout file, or an empty optional if the layout file does not exist.
+     * <p>
+     * Layouts are compiled once for a layout file and preferences and shared by all template exporters. Custom layout
+     * files are compiled again as soon as they are modified.
+     */
+    private Optional<Layout> getLayout(String filename) throws IOException {
+        String name = getLayoutPath(filename);
+        long lastModified = customExport ? new File(name).lastModified() : 0;
+        try {
+            return LAYOUTS.get(LayoutKey.of(name, lastModified, layoutPreferences), () -> {
+                try (Reader reader = getReader(name)) {
+                    return Optional.of(new LayoutHelper(reader, layoutPreferences).getLayoutFromText());
+                } catch (FileNotFoundException ex) {
+                    // Missing layout files are cached as well, as most entry types do not have a layout of their own
+                    return Optional.empty();
+                }
+            });
+        } catch (ExecutionException ex) {
+            throw new IOException("Cannot read layout file: '" + name + "'.", ex.getCause());
+        }
+    }
+
     @Override
     public void export(final BibDatabaseContext databaseContext, final Path file,
                        List<BibEntry> entries) throws Exception {
@@ -193,8 +235,6 @@ public class TemplateExporter extends Exporter {
         }
 
         try (AtomicFileWriter ps = new AtomicFileWriter(file, encodingToUse)) {
-            Layout beginLayout = null;
-
             // Check if this export filter has bundled name formatters:
             // Add these to the preferences, so all layouts have access to the custom name formatters:
             readFormatterFile();
@@ -202,17 +242,16 @@ public class TemplateExporter extends Exporter {
             List<String> missingFormatters = new ArrayList<>(1);
 
             // Print header
-            try (Reader reader = getReader(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION)) {
-                LayoutHelper layoutHelper = new LayoutHelper(reader, layoutPreferences);
-                beginLayout = layoutHelper.getLayoutFromText();
+            Optional<Layout> beginLayout = Optional.empty();
+            try {
+                beginLayout = getLayout(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION);
             } catch (IOException ex) {
-                // If an exception was cast, export filter doesn't have a begin
-                // file.
+                LOGGER.warn("Could not read begin layout of {}", lfFileName, ex);
             }
             // Write the header
-            if (beginLayout != null) {
-                ps.write(beginLayout.doLayout(databaseContext, encodingToUse));
-                missingFormatters.addAll(beginLayout.getMissingFormatters());
+            if (beginLayout.isPresent()) {
+                ps.write(beginLayout.get().doLayout(databaseContext, encodingToUse));
+                missingFormatters.addAll(beginLayout.get().getMissingFormatters());
             }
 
             /*
@@ -225,76 +264,72 @@ public class TemplateExporter extends Exporter {
             List<BibEntry> sorted = BibDatabaseWriter.getSortedEntries(databaseContext, entries, savePreferences);
 
             // Load default layout
-            Layout defLayout;
-            LayoutHelper layoutHelper;
-            try (Reader reader = getReader(lfFileName + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, layoutPreferences);
-                defLayout = layoutHelper.getLayoutFromText();
-            }
-            if (defLayout != null) {
-                missingFormatters.addAll(defLayout.getMissingFormatters());
-                if (!missingFormatters.isEmpty()) {
-                    LOGGER.warn("Missing formatters found: {}", missingFormatters);
-                }
+            Layout defLayout = getLayout(lfFileName + LAYOUT_EXTENSION).orElseThrow(() ->
+                    new FileNotFoundException("Cannot find layout file: '" + getLayoutPath(lfFileName + LAYOUT_EXTENSION) + "'."));
+            missingFormatters.addAll(defLayout.getMissingFormatters());
+            if (!missingFormatters.isEmpty()) {
+                LOGGER.warn("Missing formatters found: {}", missingFormatters);
             }
-            Map<EntryType, Layout> layouts = new HashMap<>();
-            Layout layout;
 
-            ExporterFactory.entryNumber = 0;
+            // Get the layout of each entry: a type-specific layout if there is one, the default layout otherwise
+            Map<EntryType, Layout> layouts = new HashMap<>();
+            List<Layout> entryLayouts = new ArrayList<>(sorted.size());
             for (BibEntry entry : sorted) {
-                ExporterFactory.entryNumber++; // Increment entry counter.
-                // Get the layout
                 EntryType type = entry.getType();
-                if (layouts.containsKey(type)) {
-                    layout = layouts.get(type);
-                } else {
-                    try (Reader reader = getReader(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION)) {
-                        // We try to get a type-specific layout for this entry.
-                        layoutHelper = new LayoutHelper(reader, layoutPreferences);
-                        layout = layoutHelper.getLayoutFromText();
-                        layouts.put(type, layout);
-                        if (layout != null) {
-                            missingFormatters.addAll(layout.getMissingFormatters());
-                        }
+                Layout layout = layouts.get(type);
+                if (layout == null) {
+                    Optional<Layout> typeLayout = Optional.empty();
+                    try {
+                        typeLayout = getLayout(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION);
                     } catch (IOException ex) {
-                        // The exception indicates that no type-specific layout
-                        // exists, so we
-                        // go with the default one.
-                        layout = defLayout;
+                        LOGGER.warn("Could not read layout of {} for {}", lfFileName, type.getName(), ex);
                     }
+                    typeLayout.ifPresent(value -> missingFormatters.addAll(value.getMissingFormatters()));
+                    layout = typeLayout.orElse(defLayout);
+                    layouts.put(type, layout);
                 }
+                entryLayouts.add(layout);
+            }
 
-                // Write the entry
-                if (layout != null) {
-                    if (blankLineBehaviour == BlankLineBehaviour.DELETE_BLANKS) {
-                        String[] lines = layout.doLayout(entry, databaseContext.getDatabase()).split(BLANK_LINE_PATTERN);
-                        for (String line : lines) {
-                            if (!line.isBlank() && !line.isEmpty()) {
-                                ps.write(line + OS.NEWLINE);
-                            }
+            // Render the entries in parallel, unless the output of a group depends on the previous entry
+            BibDatabase database = databaseContext.getDatabase();
+            IntStream indices = IntStream.range(0, sorted.size());
+            if (layouts.values().stream().noneMatch(Layout::containsGroups)) {
+                indices = indices.parallel();
+            }
+            LayoutHelper.setCurrentGroup(null);
+            List<String> renderedEntries = indices.mapToObj(i -> entryLayouts.get(i).doLayout(sorted.get(i), database, i + 1))
+                                                  .collect(Collectors.toList());
+            LayoutHelper.setCurrentGroup(null);
+
+            // Write the entries
+            for (String renderedEntry : renderedEntries) {
+                if (blankLineBehaviour == BlankLineBehaviour.DELETE_BLANKS) {
+                    String[] lines = renderedEntry.split(BLANK_LINE_PATTERN);
+                    for (String line : lines) {
+                        if (!line.isBlank() && !line.isEmpty()) {
+                            ps.write(line + OS.NEWLINE);
                         }
-                    } else {
-                        ps.write(layout.doLayout(entry, databaseContext.getDatabase()));
                     }
+                } else {
+                    ps.write(renderedEntry);
                 }
             }
 
             // Print footer
 
             // changed section - begin (arudert)
-            Layout endLayout = null;
-            try (Reader reader = getReader(lfFileName + END_INFIX + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, layoutPreferences);
-                endLayout = layoutHelper.getLayoutFromText();
+            Optional<Layout> endLayout = Optional.empty();
+            try {
+                endLayout = getLayout(lfFileName + END_INFIX + LAYOUT_EXTENSION);
             } catch (IOException ex) {
-                // If an exception was thrown, export filter doesn't have an end
-                // file.
+                LOGGER.warn("Could not read end layout of {}", lfFileName, ex);
             }
 
             // Write footer
-            if (endLayout != null) {
-                ps.write(endLayout.doLayout(databaseContext, encodingToUse));
-                missingFormatters.addAll(endLayout.getMissingFormatters());
+            if (endLayout.isPresent()) {
+                ps.write(endLayout.get().doLayout(databaseContext, encodingToUse));
+                missingFormatters.addAll(endLayout.get().getMissingFormatters());
             }
 
             // Clear custom name formatters:
@@ -351,4 +386,44 @@ public class TemplateExporter extends Exporter {
     public String getLayoutFileNameWithExtension() {
         return lfFileName + LAYOUT_EXTENSION;
     }
+
+    /**
+     * Identifies a compiled layout: the path and modification time of the layout file and a snapshot of the
+     * preferences the layout is compiled with
+     */
+    private record LayoutKey(String path,
+                             long lastModified,
+                             List<String> nameFormatterKeys,
+                             List<String> nameFormatterValues,
+                             String mainFileDirectory,
+                             List<Path> fileDirForDatabase,
+                             Map<String, String> customExportNameFormatters,
+                             JournalAbbreviationRepository journalAbbreviationRepository) {
+
+        static LayoutKey of(String path, long lastModified, LayoutFormatterPreferences preferences) {
+            NameFormatterPreferences nameFormatterPreferences = preferences.getNameFormatterPreferences();
+            FileLinkPreferences fileLinkPreferences = preferences.getFileLinkPreferences();
+            return new LayoutKey(path,
+                    lastModified,
+                    copyOf(nameFormatterPreferences.getNameFormatterKey()),
+                    copyOf(nameFormatterPreferences.getNameFormatterValue()),
+                    fileLinkPreferences.getMainFileDirectory(),
+                    copyOf(fileLinkPreferences.getFileDirForDatabase()),
+                    preferences.getCustomExportNameFormatters(),
+                    preferences.getJournalAbbreviationRepository());
+        }
+
+        /**
+         * Copies the given (possibly null) list. The preferences are mutable, so the key must not refer to their lists.
+         */
+        private static <T> List<T> copyOf(List<T> values) {
+            List<T> copy = new ArrayList<>();
+            if (values != null) {
+                for (T value : values) {
+                    copy.add(value);
+                }
+            }
+            return copy;
+        }
+    }
 }
@@ -2,14 +2,12 @@ package org.jabref.logic.importer.fileformat;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PushbackReader;
 import java.io.Reader;
-import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -17,6 +15,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.bibtex.FieldContentFormatter;
 import org.jabref.logic.bibtex.FieldWriter;
@@ -44,6 +43,7 @@ import org.jabref.model.entry.types.EntryTypeFactory;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.util.FileUpdateMonitor;
 
+import com.google.common.collect.Lists;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -69,11 +69,40 @@ import org.slf4j.LoggerFactory;
 public class BibtexParser implements Parser {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibtexParser.class);
 
-    private static final Integer LOOKAHEAD = 1024;
+    private static final int LOOKAHEAD = 1024;
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+    private static final char EOF_CHARACTER = 65535;
+
+    // Inputs of at least this many characters are parsed in parallel
+    private static final int PARALLEL_PARSING_THRESHOLD = 1024 * 1024;
+    private static final int ENTRIES_PER_PARALLEL_TASK = 256;
+
     private final FieldContentFormatter fieldContentFormatter;
-    private final Deque<Character> pureTextFromFile = new LinkedList<>();
     private final ImportFormatPreferences importFormatPreferences;
-    private PushbackReader pushbackReader;
+    private final FileUpdateMonitor fileMonitor;
+
+    // The input is read in chunks into the buffer. Characters which are not part of the text read so far are dropped when refilling it.
+    private Reader reader;
+    private char[] buffer;
+    private int bufferLimit;
+    private int position;
+    private boolean endOfReader;
+    private int trailingEofCharacters;
+    private boolean endOfInputRead;
+
+    // Characters which were pushed back and are not the ones directly in front of the current position in the buffer
+    private char[] pushedBack;
+    private int pushedBackCount;
+
+    /**
+     * The text read so far (see {@link #dumpTextReadSoFarToString()}) usually is the range between this offset and the
+     * current position in the buffer. Only after pushing back characters which were not read directly before, it is
+     * collected in {@link #textReadSoFar} instead, until it is dumped the next time.
+     */
+    private int textReadSoFarStart;
+    private boolean textReadSoFarInBuffer;
+    private final StringBuilder textReadSoFar = new StringBuilder();
+
     private BibDatabase database;
     private Set<BibEntryType> entryTypes;
     private boolean eof;
@@ -81,8 +110,12 @@ public class BibtexParser implements Parser {
     private ParserResult parserResult;
     private final MetaDataParser metaDataParser;
 
+    // The entries whose contents are parsed in parallel after the rest of the input, or null when parsing sequentially
+    private List<DeferredEntry> deferredEntries;
+
     public BibtexParser(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
         this.importFormatPreferences = Objects.requireNonNull(importFormatPreferences);
+        this.fileMonitor = fileMonitor;
         fieldContentFormatter = new FieldContentFormatter(importFormatPreferences.getFieldContentFormatterPreferences());
         metaDataParser = new MetaDataParser(fileMonitor);
     }
@@ -127,12 +160,57 @@ public class BibtexParser implements Parser {
      * <p>
      * Multiple calls to parse() return the same results
      * <p>
+     * Large inputs are parsed in parallel, see {@link #parseInParallel()}.
+     * <p>
      * Handling of encoding is done at {@link BibtexImporter}
      */
     public ParserResult parse(Reader in) throws IOException {
         Objects.requireNonNull(in);
-        pushbackReader = new PushbackReader(in, BibtexParser.LOOKAHEAD);
+        initializeInput(in);
+
+        while ((bufferLimit < PARALLEL_PARSING_THRESHOLD) && fillBuffer()) {
+            // read until it is known whether parsing in parallel pays off
+        }
+        if (bufferLimit < PARALLEL_PARSING_THRESHOLD) {
+            return parseInput();
+        }
+        return parseInParallel();
+    }
+
+    /**
+     * Parses the whole input in two phases. The first phase parses everything except for the contents of the entries,
+     * which are only skipped by balancing braces and quotes. As a result, the strings, the preamble, the metadata and
+     * the epilog are handled in order exactly as when parsing sequentially. The second phase parses the contents of the
+     * entries on the common fork-join pool. The parsed entries are inserted in the order of the input.
+     * <p>
+     * If the input contains anything the parallel parsing cannot handle exactly the same way as the sequential parsing
+     * (e.g., a malformed entry the parser tries to recover from), it is parsed sequentially again.
+     */
+    private ParserResult parseInParallel() throws IOException {
+        while (fillBuffer()) {
+            // keep the whole input, it may be parsed a second time
+        }
+        char[] content = buffer;
+        int length = bufferLimit;
+        boolean eofBeforeParsing = eof;
+        int lineBeforeParsing = line;
+
+        deferredEntries = new ArrayList<>();
+        try {
+            return parseInput();
+        } catch (SequentialParsingRequiredException e) {
+            LOGGER.debug("Could not parse entries in parallel, parsing sequentially", e);
+            deferredEntries = null;
+            initializeInput(content, length);
+            eof = eofBeforeParsing;
+            line = lineBeforeParsing;
+            return parseInput();
+        } finally {
+            deferredEntries = null;
+        }
+    }
 
+    private ParserResult parseInput() throws IOException {
         String newLineSeparator = determineNewLineSeparator();
 
         // BibTeX related contents
@@ -145,26 +223,59 @@ public class BibtexParser implements Parser {
         return parseFileContent();
     }
 
+    private void initializeInput(Reader in) {
+        reader = in;
+        buffer = new char[INITIAL_BUFFER_SIZE];
+        bufferLimit = 0;
+        endOfReader = false;
+        resetInput();
+    }
+
+    /**
+     * Initializes the input with content which is already completely in memory
+     */
+    private void initializeInput(char[] content, int length) {
+        reader = null;
+        buffer = content;
+        bufferLimit = length;
+        endOfReader = true;
+        resetInput();
+    }
+
+    private void resetInput() {
+        position = 0;
+        trailingEofCharacters = 0;
+        endOfInputRead = false;
+        if (pushedBack == null) {
+            pushedBack = new char[LOOKAHEAD];
+        }
+        pushedBackCount = 0;
+        textReadSoFarStart = 0;
+        textReadSoFarInBuffer = true;
+        textReadSoFar.setLength(0);
+    }
+
+    /**
+     * Determines the newline separator from the first line break within the first {@link #LOOKAHEAD} characters
+     * without consuming any input
+     */
     private String determineNewLineSeparator() throws IOException {
-        String newLineSeparator = OS.NEWLINE;
-        StringWriter stringWriter = new StringWriter(BibtexParser.LOOKAHEAD);
-        int i = 0;
-        int currentChar;
-        do {
-            currentChar = pushbackReader.read();
-            stringWriter.append((char) currentChar);
-            i++;
-        } while ((i < BibtexParser.LOOKAHEAD) && (currentChar != '\r') && (currentChar != '\n'));
-        if (currentChar == '\r') {
-            newLineSeparator = "\r\n";
-        } else if (currentChar == '\n') {
-            newLineSeparator = "\n";
+        while ((bufferLimit < LOOKAHEAD) && fillBuffer()) {
+            // read until the lookahead is available
         }
 
-        // unread all sneaked characters
-        pushbackReader.unread(stringWriter.toString().toCharArray());
+        int lookahead = Math.min(bufferLimit, LOOKAHEAD);
+        for (int i = 0; i < lookahead; i++) {
+            if (buffer[i] == '\r') {
+                return "\r\n";
+            } else if (buffer[i] == '\n') {
+                return "\n";
+            }
+        }
 
-        return newLineSeparator;
+        // Looking ahead beyond the end of the input used to push back end-of-file characters, which are read in front of the actual end
+        trailingEofCharacters = LOOKAHEAD - lookahead;
+        return OS.NEWLINE;
     }
 
     private void initializeParserResult(String newLineSeparator) {
@@ -226,6 +337,10 @@ public class BibtexParser implements Parser {
             skipWhitespace();
         }
 
+        if (deferredEntries != null) {
+            database.insertEntries(parseDeferredEntries());
+        }
+
         // Instantiate meta data
         try {
             parserResult.setMetaData(metaDataParser.parse(meta, importFormatPreferences.getKeywordSeparator()));
@@ -266,7 +381,15 @@ public class BibtexParser implements Parser {
                 commentsAndEntryTypeDefinition = commentsAndEntryTypeDefinition.substring(1);
             }
 
+            if (deferredEntries != null) {
+                deferEntry(type, commentsAndEntryTypeDefinition);
+                return;
+            }
+
             BibEntry entry = parseEntry(type);
+            // Consume new line which signals end of entry
+            skipOneNewline();
+
             // store comments collected without type definition
             entry.setCommentsBeforeEntry(
                     commentsAndEntryTypeDefinition.substring(0, commentsAndEntryTypeDefinition.lastIndexOf('@')));
@@ -287,6 +410,89 @@ public class BibtexParser implements Parser {
         }
     }
 
+    /**
+     * Skips the contents of an entry, which are parsed later on in parallel
+     */
+    private void deferEntry(String type, String commentsAndEntryTypeDefinition) throws IOException {
+        skipWhitespace();
+        int character = read();
+        if ((character != '{') && (character != '(')) {
+            throw new SequentialParsingRequiredException();
+        }
+
+        // find the end of the entry the same way as parseEntry does for well-formed entries
+        int braceLevel = 0;
+        boolean inQuotes = false;
+        while (true) {
+            character = read();
+            if (isEOFCharacter(character)) {
+                throw new SequentialParsingRequiredException();
+            }
+            if (character == '{') {
+                braceLevel++;
+            } else if ((character == '}') && (braceLevel > 0)) {
+                braceLevel--;
+            } else if ((braceLevel == 0) && (character == '"')) {
+                inQuotes = !inQuotes;
+            } else if ((braceLevel == 0) && !inQuotes && ((character == '}') || (character == ')'))) {
+                break;
+            }
+        }
+        String contents = getPureTextFromFile();
+
+        // Consume new line which signals end of entry
+        skipOneNewline();
+
+        String parsedSerialization = commentsAndEntryTypeDefinition + cleanUpTextReadSoFar(contents + getPureTextFromFile());
+        deferredEntries.add(new DeferredEntry(
+                type,
+                contents,
+                commentsAndEntryTypeDefinition.substring(0, commentsAndEntryTypeDefinition.lastIndexOf('@')),
+                parsedSerialization));
+    }
+
+    private List<BibEntry> parseDeferredEntries() {
+        return Lists.partition(deferredEntries, ENTRIES_PER_PARALLEL_TASK)
+                    .parallelStream()
+                    .map(batch -> new BibtexParser(importFormatPreferences, fileMonitor).parseDeferredEntries(batch))
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList());
+    }
+
+    private List<BibEntry> parseDeferredEntries(List<DeferredEntry> batch) {
+        initializeParserResult(OS.NEWLINE);
+        List<BibEntry> entries = new ArrayList<>(batch.size());
+        for (DeferredEntry deferredEntry : batch) {
+            entries.add(parseDeferredEntry(deferredEntry));
+        }
+        return entries;
+    }
+
+    /**
+     * Parses the contents of a deferred entry. The result is only used if parsing the contents did neither look beyond
+     * them nor warn, because only then parsing them sequentially as part of the whole input yields the same entry.
+     */
+    private BibEntry parseDeferredEntry(DeferredEntry deferredEntry) {
+        char[] contents = deferredEntry.contents().toCharArray();
+        initializeInput(contents, contents.length);
+        eof = false;
+
+        BibEntry entry;
+        try {
+            entry = parseEntry(deferredEntry.type());
+        } catch (IOException e) {
+            throw new SequentialParsingRequiredException(e);
+        }
+        if (endOfInputRead || (position < bufferLimit) || (pushedBackCount > 0) || parserResult.hasWarnings()
+                || !getPureTextFromFile().equals(deferredEntry.contents())) {
+            throw new SequentialParsingRequiredException();
+        }
+
+        entry.setCommentsBeforeEntry(deferredEntry.commentsBeforeEntry());
+        entry.setParsedSerialization(deferredEntry.parsedSerialization());
+        return entry;
+    }
+
     private void parseJabRefComment(Map<String, String> meta) {
         StringBuilder buffer = null;
         try {
@@ -351,7 +557,10 @@ public class BibtexParser implements Parser {
      * @return the text read so far
      */
     private String dumpTextReadSoFarToString() {
-        String result = getPureTextFromFile();
+        return cleanUpTextReadSoFar(getPureTextFromFile());
+    }
+
+    private String cleanUpTextReadSoFar(String result) {
         int indexOfAt = result.indexOf("@");
 
         // if there is no entry found, simply return the content (necessary to parse text remaining after the last entry)
@@ -396,12 +605,59 @@ public class BibtexParser implements Parser {
     }
 
     private String getPureTextFromFile() {
-        StringBuilder entry = new StringBuilder();
-        while (!pureTextFromFile.isEmpty()) {
-            entry.append(pureTextFromFile.pollFirst());
+        String text;
+        if (textReadSoFarInBuffer) {
+            text = new String(buffer, textReadSoFarStart, position - textReadSoFarStart);
+        } else {
+            text = textReadSoFar.toString();
+            textReadSoFar.setLength(0);
+            textReadSoFarInBuffer = pushedBackCount == 0;
+        }
+        textReadSoFarStart = position;
+        return text;
+    }
+
+    /**
+     * Continues collecting the text read so far outside of the buffer
+     *
+     * @param end the end of the text read so far in the buffer
+     */
+    private void moveTextReadSoFarOutOfBuffer(int end) {
+        textReadSoFar.append(buffer, textReadSoFarStart, end - textReadSoFarStart);
+        textReadSoFarInBuffer = false;
+    }
+
+    /**
+     * Reads the next chunk of the input into the buffer
+     *
+     * @return false if the end of the input was reached
+     */
+    private boolean fillBuffer() throws IOException {
+        if (endOfReader) {
+            return false;
         }
 
-        return entry.toString();
+        int keepFrom = textReadSoFarInBuffer ? textReadSoFarStart : position;
+        if (keepFrom > 0) {
+            System.arraycopy(buffer, keepFrom, buffer, 0, bufferLimit - keepFrom);
+            bufferLimit -= keepFrom;
+            position -= keepFrom;
+            textReadSoFarStart = Math.max(0, textReadSoFarStart - keepFrom);
+        }
+        if (bufferLimit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+
+        int count;
+        do {
+            count = reader.read(buffer, bufferLimit, buffer.length - bufferLimit);
+        } while (count == 0);
+        if (count < 0) {
+            endOfReader = true;
+            return false;
+        }
+        bufferLimit += count;
+        return true;
     }
 
     /**
@@ -411,9 +667,10 @@ public class BibtexParser implements Parser {
      */
     private String purgeEOFCharacters(String input) {
 
-        StringBuilder remainingText = new StringBuilder();
-        for (Character character : input.toCharArray()) {
-            if (!(isEOFCharacter(character))) {
+        StringBuilder remainingText = new StringBuilder(input.length());
+        for (int i = 0; i < input.length(); i++) {
+            char character = input.charAt(i);
+            if (!isEOFCharacter(character)) {
                 remainingText.append(character);
             }
         }
@@ -468,7 +725,7 @@ public class BibtexParser implements Parser {
     }
 
     private boolean isEOFCharacter(int character) {
-        return (character == -1) || (character == 65535);
+        return (character == -1) || (character == EOF_CHARACTER);
     }
 
     private String skipAndRecordWhitespace(int character) throws IOException {
@@ -504,11 +761,32 @@ public class BibtexParser implements Parser {
     }
 
     private int read() throws IOException {
-        int character = pushbackReader.read();
-
-        if (!isEOFCharacter(character)) {
-            pureTextFromFile.offerLast((char) character);
+        int character;
+        if (pushedBackCount > 0) {
+            character = pushedBack[--pushedBackCount];
+            // only end-of-file characters are pushed back while the text read so far is in the buffer
+            if (!isEOFCharacter(character)) {
+                textReadSoFar.append((char) character);
+            }
+        } else if ((position < bufferLimit) || fillBuffer()) {
+            character = buffer[position++];
+            if (!textReadSoFarInBuffer) {
+                if (!isEOFCharacter(character)) {
+                    textReadSoFar.append((char) character);
+                }
+            } else if (isEOFCharacter(character)) {
+                // the text read so far never contains end-of-file characters
+                moveTextReadSoFarOutOfBuffer(position - 1);
+            }
+        } else if (trailingEofCharacters > 0) {
+            trailingEofCharacters--;
+            endOfInputRead = true;
+            character = EOF_CHARACTER;
+        } else {
+            endOfInputRead = true;
+            character = -1;
         }
+
         if (character == '\n') {
             line++;
         }
@@ -519,10 +797,26 @@ public class BibtexParser implements Parser {
         if (character == '\n') {
             line--;
         }
-        pushbackReader.unread(character);
-        if (pureTextFromFile.getLast() == character) {
-            pureTextFromFile.pollLast();
+
+        if (textReadSoFarInBuffer && (pushedBackCount == 0) && (position > textReadSoFarStart) && (buffer[position - 1] == character)) {
+            // the character just read: step back, which also removes it from the text read so far
+            position--;
+            return;
+        }
+
+        if (!isEOFCharacter(character)) {
+            if (textReadSoFarInBuffer) {
+                moveTextReadSoFarOutOfBuffer(position);
+            }
+            int last = textReadSoFar.length() - 1;
+            if ((last >= 0) && (textReadSoFar.charAt(last) == character)) {
+                textReadSoFar.setLength(last);
+            }
+        }
+        if (pushedBackCount == pushedBack.length) {
+            pushedBack = Arrays.copyOf(pushedBack, pushedBack.length * 2);
         }
+        pushedBack[pushedBackCount++] = (char) character;
     }
 
     private BibtexString parseString() throws IOException {
@@ -587,9 +881,6 @@ public class BibtexParser implements Parser {
 
         consume('}', ')');
 
-        // Consume new line which signals end of entry
-        skipOneNewline();
-
         return result;
     }
 
@@ -701,7 +992,7 @@ public class BibtexParser implements Parser {
             key.append(currentChar);
             lookaheadUsed++;
         } while ((currentChar != ',') && (currentChar != '\n') && (currentChar != '=')
-                && (lookaheadUsed < BibtexParser.LOOKAHEAD));
+                && (lookaheadUsed < LOOKAHEAD));
 
         // Consumed a char too much, back into reader and remove from key:
         unread(currentChar);
@@ -963,7 +1254,7 @@ public class BibtexParser implements Parser {
         int character;
         do {
             character = read();
-        } while ((character != expected) && (character != -1) && (character != 65535));
+        } while ((character != expected) && !isEOFCharacter(character));
 
         if (isEOFCharacter(character)) {
             eof = true;
@@ -983,4 +1274,20 @@ public class BibtexParser implements Parser {
                     + " but received " + (char) character);
         }
     }
+
+    private record DeferredEntry(String type, String contents, String commentsBeforeEntry, String parsedSerialization) {
+    }
+
+    /**
+     * Signals that the input has to be parsed sequentially to get the same result as when parsing it sequentially
+     */
+    private static class SequentialParsingRequiredException extends RuntimeException {
+
+        SequentialParsingRequiredException() {
+        }
+
+        SequentialParsingRequiredException(Throwable cause) {
+            super(cause);
+        }
+    }
 }
@@ -27,4 +27,11 @@ public class FieldChecker implements EntryChecker {
 
         return OptionalUtil.toList(checker.checkValue(value.get()).map(message -> new IntegrityMessage(message, entry, field)));
     }
+
+    /**
+     * Returns the name of the underlying value checker
+     */
+    String getName() {
+        return checker.getClass().getSimpleName();
+    }
 }
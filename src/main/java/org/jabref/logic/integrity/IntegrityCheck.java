@@ -1,8 +1,17 @@
 package org.jabref.logic.integrity;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
@@ -12,12 +21,20 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.preferences.FilePreferences;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 public class IntegrityCheck {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(IntegrityCheck.class);
+
     private final BibDatabaseContext bibDatabaseContext;
-    private final FieldCheckers fieldCheckers;
+    private final List<FieldChecker> fieldCheckers;
     private final List<EntryChecker> entryCheckers;
 
+    // Nanoseconds spent in each checker, by the name of the checker
+    private final Map<String, LongAdder> checkerNanos = new ConcurrentHashMap<>();
+
     public IntegrityCheck(BibDatabaseContext bibDatabaseContext,
                           FilePreferences filePreferences,
                           CitationKeyPatternPreferences citationKeyPatternPreferences,
@@ -28,7 +45,7 @@ public class IntegrityCheck {
         fieldCheckers = new FieldCheckers(bibDatabaseContext,
                 filePreferences,
                 journalAbbreviationRepository,
-                allowIntegerEdition);
+                allowIntegerEdition).getAll();
 
         entryCheckers = new ArrayList<>(List.of(
                 new CitationKeyChecker(),
@@ -55,15 +72,32 @@ public class IntegrityCheck {
     }
 
     List<IntegrityMessage> check() {
-        List<IntegrityMessage> result = new ArrayList<>();
+        return check(messages -> {
+        });
+    }
 
+    /**
+     * Checks all entries of the database and the database as a whole. The entries are checked in parallel.
+     *
+     * @param onEntryChecked called with the messages of each entry as soon as the entry is checked. It is called from
+     *                       the checking threads, possibly concurrently. The check is aborted if it throws an exception.
+     * @return the messages of all entries in the order of the database, followed by the messages of the database
+     */
+    public List<IntegrityMessage> check(Consumer<List<IntegrityMessage>> onEntryChecked) {
         BibDatabase database = bibDatabaseContext.getDatabase();
 
-        for (BibEntry entry : database.getEntries()) {
-            result.addAll(checkEntry(entry));
-        }
+        List<IntegrityMessage> result = new ArrayList<>(database.getEntries())
+                .parallelStream()
+                .map(entry -> {
+                    List<IntegrityMessage> messages = checkEntry(entry);
+                    onEntryChecked.accept(messages);
+                    return messages;
+                })
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
         result.addAll(checkDatabase(database));
 
+        LOGGER.debug("Time spent per integrity checker: {}", getCheckerDurations());
         return result;
     }
 
@@ -73,18 +107,37 @@ public class IntegrityCheck {
             return result;
         }
 
-        for (FieldChecker fieldChecker : fieldCheckers.getAll()) {
-            result.addAll(fieldChecker.check(entry));
+        for (FieldChecker fieldChecker : fieldCheckers) {
+            result.addAll(timed(fieldChecker.getName(), () -> fieldChecker.check(entry)));
         }
 
         for (EntryChecker entryChecker : entryCheckers) {
-            result.addAll(entryChecker.check(entry));
+            result.addAll(timed(entryChecker.getClass().getSimpleName(), () -> entryChecker.check(entry)));
         }
 
         return result;
     }
 
     public List<IntegrityMessage> checkDatabase(BibDatabase database) {
-        return new DoiDuplicationChecker().check(database);
+        DoiDuplicationChecker doiDuplicationChecker = new DoiDuplicationChecker();
+        return timed(doiDuplicationChecker.getClass().getSimpleName(), () -> doiDuplicationChecker.check(database));
+    }
+
+    /**
+     * Returns the time spent in each checker so far, summed over all threads, with the most expensive checker first
+     */
+    public Map<String, Duration> getCheckerDurations() {
+        Map<String, Duration> durations = new LinkedHashMap<>();
+        checkerNanos.entrySet().stream()
+                    .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> entry) -> entry.getValue().sum()).reversed())
+                    .forEach(entry -> durations.put(entry.getKey(), Duration.ofNanos(entry.getValue().sum())));
+        return durations;
+    }
+
+    private List<IntegrityMessage> timed(String checkerName, Supplier<List<IntegrityMessage>> check) {
+        long start = System.nanoTime();
+        List<IntegrityMessage> messages = check.get();
+        checkerNanos.computeIfAbsent(checkerName, name -> new LongAdder()).add(System.nanoTime() - start);
+        return messages;
     }
 }
@@ -80,6 +80,14 @@ public class Layout {
         }
     }
 
+    /**
+     * Returns whether this layout contains a group block. The output of a group block depends on the group of the
+     * entry rendered before, so the entries have to be rendered one after the other.
+     */
+    public boolean containsGroups() {
+        return layoutEntries.stream().anyMatch(LayoutEntry::containsGroups);
+    }
+
     public String getText() {
         return layoutEntries.stream().map(LayoutEntry::getText).collect(Collectors.joining("\n"));
     }
@@ -108,6 +116,20 @@ public class Layout {
         return builder.toString();
     }
 
+    /**
+     * Returns the processed bibtex entry as {@link #doLayout(BibEntry, BibDatabase)} does, numbering it with the given
+     * entry number (see {@link org.jabref.logic.layout.format.Number}).
+     */
+    public String doLayout(BibEntry bibtex, BibDatabase database, int entryNumber) {
+        int previousEntryNumber = LayoutHelper.getEntryNumber();
+        LayoutHelper.setEntryNumber(entryNumber);
+        try {
+            return doLayout(bibtex, database);
+        } finally {
+            LayoutHelper.setEntryNumber(previousEntryNumber);
+        }
+    }
+
     /**
      * Returns the processed text. If the database argument is
      * null, no string references will be resolved. Otherwise all valid
@@ -185,6 +185,11 @@ class LayoutEntry {
         }
     }
 
+    boolean containsGroups() {
+        return (type == LayoutHelper.IS_GROUP_START)
+                || ((layoutEntries != null) && layoutEntries.stream().anyMatch(LayoutEntry::containsGroups));
+    }
+
     public void setPostFormatter(LayoutFormatter formatter) {
         this.postFormatter = formatter;
     }
@@ -46,4 +46,8 @@ public class LayoutFormatterPreferences {
     public Optional<String> getCustomExportNameFormatter(String formatterName) {
         return Optional.ofNullable(customExportNameFormatters.get(formatterName));
     }
+
+    public Map<String, String> getCustomExportNameFormatters() {
+        return Map.copyOf(customExportNameFormatters);
+    }
 }
@@ -31,7 +31,9 @@ public class LayoutHelper {
     public static final int IS_FILENAME = 9;
     public static final int IS_FILEPATH = 10;
 
-    private static String currentGroup;
+    // The state of the layouts rendered by a thread, so that entries can be rendered in parallel
+    private static final ThreadLocal<String> CURRENT_GROUP = new ThreadLocal<>();
+    private static final ThreadLocal<Integer> ENTRY_NUMBER = ThreadLocal.withInitial(() -> 1);
 
     private final PushbackReader in;
     private final List<StringInt> parsedEntries = new ArrayList<>();
@@ -57,12 +59,27 @@ public class LayoutHelper {
         return new Layout(parsedEntries, prefs);
     }
 
+    /**
+     * Returns the group of the entry rendered last by the current thread, see {@link Layout#containsGroups()}
+     */
     public static String getCurrentGroup() {
-        return LayoutHelper.currentGroup;
+        return CURRENT_GROUP.get();
     }
 
     public static void setCurrentGroup(String newGroup) {
-        LayoutHelper.currentGroup = newGroup;
+        CURRENT_GROUP.set(newGroup);
+    }
+
+    /**
+     * Returns the (one-based) number of the entry currently rendered by the current thread. It is 1 unless the entry
+     * is rendered as part of an export.
+     */
+    public static int getEntryNumber() {
+        return ENTRY_NUMBER.get();
+    }
+
+    static void setEntryNumber(int entryNumber) {
+        ENTRY_NUMBER.set(entryNumber);
     }
 
     private void doBracketedField(final int field) throws IOException {
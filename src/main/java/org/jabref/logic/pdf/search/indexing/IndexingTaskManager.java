@@ -1,8 +1,18 @@
 package org.jabref.logic.pdf.search.indexing;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
+import java.util.Optional;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.DefaultTaskExecutor;
@@ -12,14 +22,30 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
 
+import org.apache.lucene.document.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
  * Wrapper around {@link PdfIndexer} to execute all operations in the background.
+ * <p>
+ * The text of the PDF files is extracted by a pool of worker threads (one per core), while the results are written to
+ * the index by the single thread running this task, in the order the operations were queued. At most
+ * {@link #MAX_FILES_IN_FLIGHT_PER_WORKER} files per worker are extracted ahead of the writer, so that a large queue
+ * does not pile up extracted documents in memory. Operations which do not extract text (e.g., removals) wait until
+ * all files queued before them are written.
  */
 public class IndexingTaskManager extends BackgroundTask<Void> {
 
-    private final Queue<Runnable> taskQueue = new ConcurrentLinkedQueue<>();
+    private static final Logger LOGGER = LoggerFactory.getLogger(IndexingTaskManager.class);
+
+    private static final int MAX_FILES_IN_FLIGHT_PER_WORKER = 2;
+
+    private final Queue<IndexingTask> taskQueue = new ConcurrentLinkedQueue<>();
+    private final Set<PdfIndexer> usedIndexers = ConcurrentHashMap.newKeySet();
     private TaskExecutor taskExecutor;
-    private int numOfIndexedFiles = 0;
+    private volatile int numOfIndexedFiles = 0;
+    private volatile int numOfFilesInFlight = 0;
 
     private final Object lock = new Object();
     private boolean isRunning = false;
@@ -40,26 +66,102 @@ public class IndexingTaskManager extends BackgroundTask<Void> {
             isRunning = true;
         }
         updateProgress();
-        while (!taskQueue.isEmpty() && !isCanceled()) {
-            taskQueue.poll().run();
-            numOfIndexedFiles++;
-            updateProgress();
-        }
-        synchronized (lock) {
-            isRunning = false;
+
+        int numberOfWorkers = Runtime.getRuntime().availableProcessors();
+        ExecutorService extractors = Executors.newFixedThreadPool(numberOfWorkers);
+        Deque<Future<Runnable>> filesInFlight = new ArrayDeque<>();
+        try {
+            while (!isCanceled()) {
+                IndexingTask task = taskQueue.poll();
+                if (task == null) {
+                    if (filesInFlight.isEmpty()) {
+                        break;
+                    }
+                    writeNext(filesInFlight);
+                } else if (task.extraction() != null) {
+                    filesInFlight.add(extractors.submit(task.extraction()));
+                    numOfFilesInFlight = filesInFlight.size();
+                    if (filesInFlight.size() >= (numberOfWorkers * MAX_FILES_IN_FLIGHT_PER_WORKER)) {
+                        writeNext(filesInFlight);
+                    }
+                } else {
+                    while (!filesInFlight.isEmpty() && !isCanceled()) {
+                        writeNext(filesInFlight);
+                    }
+                    task.action().run();
+                    numOfIndexedFiles++;
+                    updateProgress();
+                }
+            }
+        } finally {
+            filesInFlight.forEach(future -> future.cancel(true));
+            numOfFilesInFlight = 0;
+            extractors.shutdownNow();
+            try {
+                commitUsedIndexers();
+            } finally {
+                // Otherwise, no further task would be started after a failure
+                synchronized (lock) {
+                    isRunning = false;
+                    // Tasks queued while the indexers were committed did not start a new run
+                    if (!taskQueue.isEmpty() && !isCanceled()) {
+                        isRunning = true;
+                        this.executeWith(taskExecutor);
+                    }
+                }
+            }
         }
         return null;
     }
 
+    /**
+     * Waits for the oldest file in flight to be extracted and writes it to the index
+     */
+    private void writeNext(Deque<Future<Runnable>> filesInFlight) throws InterruptedException {
+        Future<Runnable> extraction = filesInFlight.poll();
+        numOfFilesInFlight = filesInFlight.size();
+        try {
+            extraction.get().run();
+        } catch (ExecutionException e) {
+            LOGGER.warn("Could not extract the text of a linked file", e.getCause());
+        }
+        numOfIndexedFiles++;
+        updateProgress();
+    }
+
+    /**
+     * The indexers only commit in batches, so make the changes of the drained queue visible
+     */
+    private void commitUsedIndexers() {
+        for (PdfIndexer indexer : usedIndexers) {
+            indexer.commit();
+        }
+    }
+
     private void updateProgress() {
+        int indexed = numOfIndexedFiles;
+        int total = indexed + numOfFilesInFlight + taskQueue.size();
         DefaultTaskExecutor.runInJavaFXThread(() -> {
-            updateMessage(Localization.lang("%0 of %1 linked files added to the index", numOfIndexedFiles, numOfIndexedFiles + taskQueue.size()));
-            updateProgress(numOfIndexedFiles, numOfIndexedFiles + taskQueue.size());
+            updateMessage(Localization.lang("%0 of %1 linked files added to the index", indexed, total));
+            updateProgress(indexed, total);
         });
     }
 
-    private void enqueueTask(Runnable indexingTask) {
+    private void enqueueExtraction(PdfIndexer indexer, BibEntry entry, LinkedFile linkedFile, BibDatabaseContext databaseContext) {
+        Callable<Runnable> extraction = () -> {
+            Optional<List<Document>> pages = indexer.readLinkedPdf(entry, linkedFile, databaseContext);
+            return () -> pages.ifPresent(documents -> indexer.addToIndex(linkedFile, documents));
+        };
+        enqueueTask(indexer, new IndexingTask(extraction, null));
+    }
+
+    private void enqueueTask(PdfIndexer indexer, Runnable indexingTask) {
+        enqueueTask(indexer, new IndexingTask(null, indexingTask));
+    }
+
+    private void enqueueTask(PdfIndexer indexer, IndexingTask indexingTask) {
         if (!isBlockingNewTasks) {
+            usedIndexers.add(indexer);
             taskQueue.add(indexingTask);
             // What if already running?
             synchronized (lock) {
@@ -84,38 +186,45 @@ public class IndexingTaskManager extends BackgroundTask<Void> {
     }
 
     public void createIndex(PdfIndexer indexer) {
-        enqueueTask(() -> indexer.createIndex());
+        enqueueTask(indexer, () -> indexer.createIndex());
     }
 
     public void addToIndex(PdfIndexer indexer, BibDatabaseContext databaseContext) {
         for (BibEntry entry : databaseContext.getEntries()) {
             for (LinkedFile file : entry.getFiles()) {
-                enqueueTask(() -> indexer.addToIndex(entry, file, databaseContext));
+                enqueueExtraction(indexer, entry, file, databaseContext);
             }
         }
     }
 
     public void addToIndex(PdfIndexer indexer, BibEntry entry, BibDatabaseContext databaseContext) {
-        enqueueTask(() -> addToIndex(indexer, entry, entry.getFiles(), databaseContext));
+        addToIndex(indexer, entry, entry.getFiles(), databaseContext);
     }
 
     public void addToIndex(PdfIndexer indexer, BibEntry entry, List<LinkedFile> linkedFiles, BibDatabaseContext databaseContext) {
         for (LinkedFile file : linkedFiles) {
-            enqueueTask(() -> indexer.addToIndex(entry, file, databaseContext));
+            enqueueExtraction(indexer, entry, file, databaseContext);
         }
     }
 
     public void removeFromIndex(PdfIndexer indexer, BibEntry entry, List<LinkedFile> linkedFiles) {
         for (LinkedFile file : linkedFiles) {
-            enqueueTask(() -> indexer.removeFromIndex(entry, file));
+            enqueueTask(indexer, () -> indexer.removeFromIndex(entry, file));
         }
     }
 
     public void removeFromIndex(PdfIndexer indexer, BibEntry entry) {
-        enqueueTask(() -> removeFromIndex(indexer, entry, entry.getFiles()));
+        enqueueTask(indexer, () -> removeFromIndex(indexer, entry, entry.getFiles()));
     }
 
     public void updateDatabaseName(String name) {
         DefaultTaskExecutor.runInJavaFXThread(() -> this.titleProperty().set(Localization.lang("Indexing for %0", name)));
     }
+
+    /**
+     * An operation of the queue. Either the text of a file is extracted in parallel and the resulting write step is
+     * run by the indexing thread, or the action is run directly by the indexing thread.
+     */
+    private record IndexingTask(Callable<Runnable> extraction, Runnable action) {
+    }
 }
@@ -4,8 +4,13 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.jabref.gui.LibraryTab;
@@ -19,38 +24,92 @@ import org.jabref.preferences.FilePreferences;
 
 import org.apache.lucene.document.Document;
 import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexNotFoundException;
-import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.MultiBits;
 import org.apache.lucene.index.Term;
-import org.apache.lucene.search.IndexSearcher;
-import org.apache.lucene.search.TermQuery;
-import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.NIOFSDirectory;
+import org.apache.lucene.util.Bits;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Indexes the text of PDF files and adds it into the lucene search index.
+ * <p>
+ * There is one indexer per index directory (see {@link #of(BibDatabaseContext, FilePreferences)}). It keeps a single
+ * {@link IndexWriter} open for its whole lifetime and commits in batches, either when {@link #MAX_UNCOMMITTED_DOCUMENTS}
+ * documents are pending or when the last commit is older than {@link #COMMIT_INTERVAL_MILLIS}. Bulk operations always
+ * commit when they are finished. Call {@link #shutdown(BibDatabaseContext)} when the library is closed.
  */
 public class PdfIndexer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LibraryTab.class);
 
+    private static final int MAX_UNCOMMITTED_DOCUMENTS = 1000;
+    private static final long COMMIT_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    private static final Map<Path, PdfIndexer> RUNNING_INSTANCES = new HashMap<>();
+
     private final Directory directoryToIndex;
     private BibDatabaseContext databaseContext;
 
     private final FilePreferences filePreferences;
 
+    /**
+     * Modification time (in seconds) of every file in the index, keyed by the link of the file. Loaded once when the
+     * writer is opened, so that up-to-date checks do not need to query the index.
+     */
+    private final Map<String, Long> indexedFiles = new ConcurrentHashMap<>();
+
+    private IndexWriter indexWriter;
+    private SearcherManager searcherManager;
+    private int uncommittedDocuments = 0;
+    private long lastCommitTime = System.currentTimeMillis();
+
     public PdfIndexer(Directory indexDirectory, FilePreferences filePreferences) {
         this.directoryToIndex = indexDirectory;
         this.filePreferences = filePreferences;
     }
 
-    public static PdfIndexer of(BibDatabaseContext databaseContext, FilePreferences filePreferences) throws IOException {
-        return new PdfIndexer(new NIOFSDirectory(databaseContext.getFulltextIndexPath()), filePreferences);
+    /**
+     * Returns the indexer for the full text index of the given library. The indexer is created on first use and shared
+     * afterwards, because only one {@link IndexWriter} may be open on an index directory.
+     */
+    public static synchronized PdfIndexer of(BibDatabaseContext databaseContext, FilePreferences filePreferences) throws IOException {
+        Path indexPath = databaseContext.getFulltextIndexPath();
+        PdfIndexer indexer = RUNNING_INSTANCES.get(indexPath);
+        if (indexer == null) {
+            indexer = new PdfIndexer(new NIOFSDirectory(indexPath), filePreferences);
+            RUNNING_INSTANCES.put(indexPath, indexer);
+        }
+        return indexer;
+    }
+
+    /**
+     * Commits pending changes and closes the indexer which is associated with the given {@link BibDatabaseContext}.
+     */
+    public static synchronized void shutdown(BibDatabaseContext databaseContext) {
+        PdfIndexer indexer = RUNNING_INSTANCES.remove(databaseContext.getFulltextIndexPath());
+        if (indexer != null) {
+            indexer.close();
+        }
+    }
+
+    /**
+     * Returns the near-real-time searcher manager of the index at the given path if an indexer is writing to it. It
+     * sees all documents added to the writer, including the ones not yet committed.
+     */
+    public static synchronized Optional<SearcherManager> getSearcherManager(Path indexPath) {
+        PdfIndexer indexer = RUNNING_INSTANCES.get(indexPath);
+        if (indexer == null) {
+            return Optional.empty();
+        }
+        synchronized (indexer) {
+            return Optional.ofNullable(indexer.searcherManager);
+        }
     }
 
     /**
@@ -58,18 +117,15 @@ public class PdfIndexer {
      * Lucene search index will be deleted!
      */
     public void createIndex() {
-        // Create new index by creating IndexWriter but not writing anything.
-        try (IndexWriter indexWriter = new IndexWriter(directoryToIndex, new IndexWriterConfig(new EnglishStemAnalyzer()).setOpenMode(IndexWriterConfig.OpenMode.CREATE))) {
-            // empty comment for checkstyle
-        } catch (IOException e) {
-            LOGGER.warn("Could not create new Index!", e);
-        }
+        flushIndex();
     }
 
     public void addToIndex(BibDatabaseContext databaseContext) {
+        this.databaseContext = databaseContext;
         for (BibEntry entry : databaseContext.getEntries()) {
-            addToIndex(entry, databaseContext);
+            writeToIndex(entry);
         }
+        commit();
     }
 
     /**
@@ -89,13 +145,18 @@ public class PdfIndexer {
      * @param databaseContext the associated BibDatabaseContext
      */
     public void addToIndex(BibEntry entry, List<LinkedFile> linkedFiles, BibDatabaseContext databaseContext) {
+        if (databaseContext != null) {
+            this.databaseContext = databaseContext;
+        }
         for (LinkedFile linkedFile : linkedFiles) {
-            addToIndex(entry, linkedFile, databaseContext);
+            writeToIndex(entry, linkedFile);
         }
+        commit();
     }
 
     /**
-     * Adds a pdf file linked to one entry in the database to an existing (or new) Lucene search index
+     * Adds a pdf file linked to one entry in the database to an existing (or new) Lucene search index. The change is
+     * only committed if the batch limits are reached, call {@link #commit()} to force it.
      *
      * @param entry a bibtex entry
      * @param linkedFile the link to the pdf files
@@ -104,28 +165,20 @@ public class PdfIndexer {
         if (databaseContext != null) {
             this.databaseContext = databaseContext;
         }
-        if (!entry.getFiles().isEmpty()) {
-            writeToIndex(entry, linkedFile);
-        }
+        writeToIndex(entry, linkedFile);
+        commitIfNeeded();
     }
 
     /**
-     * Removes a pdf file linked to one entry in the database from the index
+     * Removes a pdf file linked to one entry in the database from the index. The change is only committed if the batch
+     * limits are reached, call {@link #commit()} to force it.
+     *
      * @param entry the entry the file is linked to
      * @param linkedFile the link to the file to be removed
      */
     public void removeFromIndex(BibEntry entry, LinkedFile linkedFile) {
-        try (IndexWriter indexWriter = new IndexWriter(
-                directoryToIndex,
-                new IndexWriterConfig(
-                        new EnglishStemAnalyzer()).setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND))) {
-            if (!entry.getFiles().isEmpty()) {
-                indexWriter.deleteDocuments(new Term(SearchFieldConstants.PATH, linkedFile.getLink()));
-            }
-            indexWriter.commit();
-        } catch (IOException e) {
-            LOGGER.warn("Could not initialize the IndexWriter!", e);
-        }
+        deleteFromIndex(entry, linkedFile);
+        commitIfNeeded();
     }
 
     /**
@@ -142,21 +195,94 @@ public class PdfIndexer {
      */
     public void removeFromIndex(BibEntry entry, List<LinkedFile> linkedFiles) {
         for (LinkedFile linkedFile : linkedFiles) {
-            removeFromIndex(entry, linkedFile);
+            deleteFromIndex(entry, linkedFile);
         }
+        commit();
     }
 
     /**
      * Deletes all entries from the Lucene search index.
      */
-    public void flushIndex() {
-        IndexWriterConfig config = new IndexWriterConfig();
-        config.setOpenMode(IndexWriterConfig.OpenMode.CREATE);
-        try (IndexWriter deleter = new IndexWriter(directoryToIndex, config)) {
-            // Do nothing. Index is deleted.
+    public synchronized void flushIndex() {
+        try {
+            getIndexWriter().deleteAll();
+            indexedFiles.clear();
         } catch (IOException e) {
             LOGGER.warn("The IndexWriter could not be initialized", e);
         }
+        commit();
+    }
+
+    /**
+     * Commits all pending changes to the index and refreshes the searcher.
+     */
+    public synchronized void commit() {
+        if (indexWriter == null) {
+            return;
+        }
+        try {
+            indexWriter.commit();
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            LOGGER.warn("Could not commit the index!", e);
+        }
+        uncommittedDocuments = 0;
+        lastCommitTime = System.currentTimeMillis();
+    }
+
+    private synchronized void commitIfNeeded() {
+        if ((uncommittedDocuments >= MAX_UNCOMMITTED_DOCUMENTS)
+                || ((System.currentTimeMillis() - lastCommitTime) >= COMMIT_INTERVAL_MILLIS)) {
+            commit();
+        }
+    }
+
+    private synchronized void close() {
+        if (indexWriter == null) {
+            return;
+        }
+        commit();
+        try {
+            searcherManager.close();
+            indexWriter.close();
+        } catch (IOException e) {
+            LOGGER.warn("Could not close the index!", e);
+        }
+        indexWriter = null;
+        searcherManager = null;
+        indexedFiles.clear();
+    }
+
+    /**
+     * Opens the writer on first use and reads the modification times of all files in the index.
+     */
+    private synchronized IndexWriter getIndexWriter() throws IOException {
+        if (indexWriter == null) {
+            indexWriter = new IndexWriter(directoryToIndex,
+                    new IndexWriterConfig(new EnglishStemAnalyzer()).setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+            searcherManager = new SearcherManager(indexWriter, null);
+            loadIndexedFiles();
+        }
+        return indexWriter;
+    }
+
+    private void loadIndexedFiles() throws IOException {
+        indexedFiles.clear();
+        try (DirectoryReader reader = DirectoryReader.open(indexWriter)) {
+            Bits liveDocs = MultiBits.getLiveDocs(reader);
+            Set<String> fieldsToLoad = Set.of(SearchFieldConstants.PATH, SearchFieldConstants.MODIFIED);
+            for (int docId = 0; docId < reader.maxDoc(); docId++) {
+                if ((liveDocs != null) && !liveDocs.get(docId)) {
+                    continue;
+                }
+                Document document = reader.document(docId, fieldsToLoad);
+                IndexableField path = document.getField(SearchFieldConstants.PATH);
+                IndexableField modified = document.getField(SearchFieldConstants.MODIFIED);
+                if ((path != null) && (modified != null)) {
+                    indexedFiles.put(path.stringValue(), Long.parseLong(modified.stringValue()));
+                }
+            }
+        }
     }
 
     /**
@@ -177,46 +303,89 @@ public class PdfIndexer {
      * @param linkedFile the file to write to the index
      */
     private void writeToIndex(BibEntry entry, LinkedFile linkedFile) {
-        if (linkedFile.isOnlineLink() || !StandardFileType.PDF.getName().equals(linkedFile.getFileType())) {
-            return;
+        readLinkedPdf(entry, linkedFile, databaseContext).ifPresent(pages -> {
+            try {
+                addDocuments(linkedFile.getLink(), pages);
+            } catch (IOException e) {
+                LOGGER.warn("Could not add the document {} to the index!", linkedFile.getLink(), e);
+            }
+        });
+    }
+
+    /**
+     * Reads the pages of the file if the file is not yet in the index or the file on the fs is newer than the one in
+     * the index. This does not modify the index and may be called from several threads at once, the result is written
+     * with {@link #addToIndex(LinkedFile, List)}.
+     *
+     * @param entry the entry associated with the file
+     * @param linkedFile the file to read
+     * @return the pages of the file, or an empty optional if the file does not need to be (re-)indexed
+     */
+    public Optional<List<Document>> readLinkedPdf(BibEntry entry, LinkedFile linkedFile, BibDatabaseContext databaseContext) {
+        if (entry.getFiles().isEmpty() || linkedFile.isOnlineLink() || !StandardFileType.PDF.getName().equals(linkedFile.getFileType())) {
+            return Optional.empty();
         }
         Optional<Path> resolvedPath = linkedFile.findIn(databaseContext, filePreferences);
         if (resolvedPath.isEmpty()) {
             LOGGER.warn("Could not find {}", linkedFile.getLink());
-            return;
+            return Optional.empty();
         }
         try {
-            // Check if a document with this path is already in the index
-            try (IndexReader reader = DirectoryReader.open(directoryToIndex)) {
-                IndexSearcher searcher = new IndexSearcher(reader);
-                TermQuery query = new TermQuery(new Term(SearchFieldConstants.PATH, linkedFile.getLink()));
-                TopDocs topDocs = searcher.search(query, 1);
-                // If a document was found, check if is less current than the one in the FS
-                if (topDocs.scoreDocs.length > 0) {
-                    Document doc = reader.document(topDocs.scoreDocs[0].doc);
-                    long indexModificationTime = Long.parseLong(doc.getField(SearchFieldConstants.MODIFIED).stringValue());
-
-                    BasicFileAttributes attributes = Files.readAttributes(resolvedPath.get(), BasicFileAttributes.class);
-
-                    if (indexModificationTime >= attributes.lastModifiedTime().to(TimeUnit.SECONDS)) {
-                        return;
-                    }
-                }
-            } catch (IndexNotFoundException e) {
-                // if there is no index yet, don't need to check anything!
-            }
-            // If no document was found, add the new one
-            Optional<List<Document>> pages = new DocumentReader(entry, filePreferences).readLinkedPdf(this.databaseContext, linkedFile);
-            if (pages.isPresent()) {
-                try (IndexWriter indexWriter = new IndexWriter(directoryToIndex,
-                                                               new IndexWriterConfig(
-                                                                                     new EnglishStemAnalyzer()).setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND))) {
-                    indexWriter.addDocuments(pages.get());
-                    indexWriter.commit();
+            getIndexWriter();
+            // Skip the file if the index already contains it and it did not change on the fs since then
+            Long indexModificationTime = indexedFiles.get(linkedFile.getLink());
+            if (indexModificationTime != null) {
+                BasicFileAttributes attributes = Files.readAttributes(resolvedPath.get(), BasicFileAttributes.class);
+                if (indexModificationTime >= attributes.lastModifiedTime().to(TimeUnit.SECONDS)) {
+                    return Optional.empty();
                 }
             }
         } catch (IOException e) {
             LOGGER.warn("Could not add the document {} to the index!", linkedFile.getLink(), e);
+            return Optional.empty();
+        }
+        return new DocumentReader(entry, filePreferences).readLinkedPdf(databaseContext, linkedFile);
+    }
+
+    /**
+     * Writes the pages read by {@link #readLinkedPdf(BibEntry, LinkedFile, BibDatabaseContext)} to the index. The
+     * change is only committed if the batch limits are reached, call {@link #commit()} to force it.
+     *
+     * @param linkedFile the file the pages belong to
+     * @param pages the pages to replace the previously indexed pages of the file with
+     */
+    public void addToIndex(LinkedFile linkedFile, List<Document> pages) {
+        try {
+            addDocuments(linkedFile.getLink(), pages);
+        } catch (IOException e) {
+            LOGGER.warn("Could not add the document {} to the index!", linkedFile.getLink(), e);
+        }
+        commitIfNeeded();
+    }
+
+    /**
+     * Replaces all documents of the given file in the index by the given pages.
+     */
+    private synchronized void addDocuments(String link, List<Document> pages) throws IOException {
+        getIndexWriter().updateDocuments(new Term(SearchFieldConstants.PATH, link), pages);
+        pages.stream()
+             .map(page -> page.get(SearchFieldConstants.MODIFIED))
+             .filter(Objects::nonNull)
+             .findFirst()
+             .ifPresent(modified -> indexedFiles.put(link, Long.parseLong(modified)));
+        uncommittedDocuments += pages.size();
+    }
+
+    private synchronized void deleteFromIndex(BibEntry entry, LinkedFile linkedFile) {
+        if (entry.getFiles().isEmpty()) {
+            return;
+        }
+        try {
+            getIndexWriter().deleteDocuments(new Term(SearchFieldConstants.PATH, linkedFile.getLink()));
+            indexedFiles.remove(linkedFile.getLink());
+            uncommittedDocuments++;
+        } catch (IOException e) {
+            LOGGER.warn("Could not initialize the IndexWriter!", e);
         }
     }
 }
@@ -1,11 +1,16 @@
 package org.jabref.logic.pdf.search.retrieval;
 
 import java.io.IOException;
-import java.util.LinkedList;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.jabref.gui.LibraryTab;
+import org.jabref.logic.pdf.search.indexing.PdfIndexer;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.pdf.search.EnglishStemAnalyzer;
 import org.jabref.model.pdf.search.PdfSearchResults;
@@ -13,13 +18,14 @@ import org.jabref.model.pdf.search.SearchResult;
 import org.jabref.model.strings.StringUtil;
 
 import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
 import org.apache.lucene.queryparser.classic.ParseException;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.AlreadyClosedException;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.NIOFSDirectory;
 import org.slf4j.Logger;
@@ -27,18 +33,47 @@ import org.slf4j.LoggerFactory;
 
 import static org.jabref.model.pdf.search.SearchFieldConstants.PDF_FIELDS;
 
+/**
+ * Searches the Lucene search index of a library.
+ * <p>
+ * There is one searcher per index directory. It keeps its {@link IndexSearcher} open across queries and only reopens
+ * it if the index changed since the last search. While a {@link PdfIndexer} writes to the index, the near-real-time
+ * searcher of the indexer is used.
+ */
 public final class PdfSearcher {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LibraryTab.class);
 
+    private static final Map<Path, PdfSearcher> RUNNING_INSTANCES = new HashMap<>();
+
+    private final Path indexPath;
     private final Directory indexDirectory;
+    private final MultiFieldQueryParser queryParser = new MultiFieldQueryParser(PDF_FIELDS, new EnglishStemAnalyzer());
+    private SearcherManager searcherManager;
+
+    private PdfSearcher(Path indexPath) throws IOException {
+        this.indexPath = indexPath;
+        this.indexDirectory = new NIOFSDirectory(indexPath);
+    }
 
-    private PdfSearcher(Directory indexDirectory) {
-        this.indexDirectory = indexDirectory;
+    public static synchronized PdfSearcher of(BibDatabaseContext databaseContext) throws IOException {
+        Path indexPath = databaseContext.getFulltextIndexPath();
+        PdfSearcher searcher = RUNNING_INSTANCES.get(indexPath);
+        if (searcher == null) {
+            searcher = new PdfSearcher(indexPath);
+            RUNNING_INSTANCES.put(indexPath, searcher);
+        }
+        return searcher;
     }
 
-    public static PdfSearcher of(BibDatabaseContext databaseContext) throws IOException {
-        return new PdfSearcher(new NIOFSDirectory(databaseContext.getFulltextIndexPath()));
+    /**
+     * Closes the searcher which is associated with the given {@link BibDatabaseContext}.
+     */
+    public static synchronized void shutdown(BibDatabaseContext databaseContext) {
+        PdfSearcher searcher = RUNNING_INSTANCES.remove(databaseContext.getFulltextIndexPath());
+        if (searcher != null) {
+            searcher.close();
+        }
     }
 
     /**
@@ -57,17 +92,24 @@ public final class PdfSearcher {
             throw new IllegalArgumentException("Must be called with at least 1 maxHits, was" + maxHits);
         }
 
-        List<SearchResult> resultDocs = new LinkedList<>();
-
-        if (!DirectoryReader.indexExists(indexDirectory)) {
+        SearcherManager manager = getSearcherManager();
+        if (manager == null) {
             LOGGER.debug("Index directory {} does not yet exist", indexDirectory);
             return new PdfSearchResults();
         }
 
-        try (IndexReader reader = DirectoryReader.open(indexDirectory)) {
-            IndexSearcher searcher = new IndexSearcher(reader);
-            Query query = new MultiFieldQueryParser(PDF_FIELDS, new EnglishStemAnalyzer()).parse(searchString);
+        IndexSearcher searcher;
+        try {
+            manager.maybeRefresh();
+            searcher = manager.acquire();
+        } catch (AlreadyClosedException e) {
+            LOGGER.debug("Index {} was closed while searching", indexDirectory, e);
+            return new PdfSearchResults();
+        }
+        try {
+            Query query = parse(searchString);
             TopDocs results = searcher.search(query, maxHits);
+            List<SearchResult> resultDocs = new ArrayList<>(results.scoreDocs.length);
             for (ScoreDoc scoreDoc : results.scoreDocs) {
                 resultDocs.add(new SearchResult(searcher, query, scoreDoc));
             }
@@ -75,6 +117,43 @@ public final class PdfSearcher {
         } catch (ParseException e) {
             LOGGER.warn("Could not parse query: '{}'!\n{}", searchString, e.getMessage());
             return new PdfSearchResults();
+        } finally {
+            manager.release(searcher);
+        }
+    }
+
+    /**
+     * The query parser is not thread-safe, so it is shared under the monitor of this searcher
+     */
+    private synchronized Query parse(String searchString) throws ParseException {
+        return queryParser.parse(searchString);
+    }
+
+    /**
+     * Returns the searcher manager of the running indexer, or opens an own one on first use after the index was created
+     *
+     * @return the searcher manager, or null if there is no index yet
+     */
+    private synchronized SearcherManager getSearcherManager() throws IOException {
+        Optional<SearcherManager> indexerSearcherManager = PdfIndexer.getSearcherManager(indexPath);
+        if (indexerSearcherManager.isPresent()) {
+            return indexerSearcherManager.get();
+        }
+        if ((searcherManager == null) && DirectoryReader.indexExists(indexDirectory)) {
+            searcherManager = new SearcherManager(indexDirectory, null);
+        }
+        return searcherManager;
+    }
+
+    private synchronized void close() {
+        if (searcherManager == null) {
+            return;
+        }
+        try {
+            searcherManager.close();
+        } catch (IOException e) {
+            LOGGER.warn("Could not close the index searcher!", e);
         }
+        searcherManager = null;
     }
 }
@@ -10,7 +10,9 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.jabref.logic.l10n.Localization;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.EntryTokenIndex;
 import org.jabref.model.search.SearchMatcher;
 import org.jabref.model.search.rules.ContainBasedSearchRule;
 import org.jabref.model.search.rules.GrammarBasedSearchRule;
@@ -77,6 +79,20 @@ public class SearchQuery implements SearchMatcher {
         return rule.applyRule(getQuery(), entry);
     }
 
+    /**
+     * Returns a matcher which is equivalent to {@link #isMatch(BibEntry)} for the entries of the given database. It uses
+     * the token index of the database, if there is one, to reject entries which cannot match without looking at their
+     * fields.
+     */
+    public SearchMatcher getMatcher(BibDatabase database) {
+        Optional<EntryTokenIndex.Candidates> candidates = database.getTokenIndex().flatMap(index -> rule.getCandidates(getQuery(), index));
+        if (candidates.isEmpty()) {
+            return this;
+        }
+        EntryTokenIndex.Candidates candidateEntries = candidates.get();
+        return entry -> candidateEntries.contains(entry) && isMatch(entry);
+    }
+
     public boolean isValid() {
         return rule.validateSearchStrings(getQuery());
     }
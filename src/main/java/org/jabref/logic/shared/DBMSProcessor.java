@@ -18,6 +18,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.jabref.logic.shared.exception.InvalidDBMSConnectionPropertiesException;
 import org.jabref.logic.shared.exception.OfflineLockException;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.SharedBibEntryData;
@@ -38,10 +39,20 @@ public abstract class DBMSProcessor {
 
     protected static final Logger LOGGER = LoggerFactory.getLogger(DBMSProcessor.class);
 
+    // Oracle allows at most 1000 expressions in an IN list
+    private static final int MAX_IDS_PER_QUERY = 1000;
+
     protected final Connection connection;
 
     protected DatabaseConnectionProperties connectionProperties;
 
+    // The statements which are executed for every entry or field are built only once per processor. They are built on
+    // first use, as they depend on the escaping of the database system implemented by the subclass.
+    private String insertFieldQuery;
+    private String updateFieldQuery;
+    private String deleteFieldQuery;
+    private String updateEntryTypeQuery;
+
     protected DBMSProcessor(DatabaseConnection dbmsConnection) {
         this.connection = dbmsConnection.getConnection();
         this.connectionProperties = dbmsConnection.getProperties();
@@ -129,6 +140,39 @@ public abstract class DBMSProcessor {
      */
     abstract String escape(String expression);
 
+    private String getInsertFieldQuery() {
+        if (insertFieldQuery == null) {
+            insertFieldQuery = "INSERT INTO " + escape("FIELD") + "("
+                    + escape("ENTRY_SHARED_ID") + ", " + escape("NAME") + ", " + escape("VALUE")
+                    + ") VALUES(?, ?, ?)";
+        }
+        return insertFieldQuery;
+    }
+
+    private String getUpdateFieldQuery() {
+        if (updateFieldQuery == null) {
+            updateFieldQuery = "UPDATE " + escape("FIELD") + " SET " + escape("VALUE") + " = ? WHERE "
+                    + escape("NAME") + " = ? AND " + escape("ENTRY_SHARED_ID") + " = ?";
+        }
+        return updateFieldQuery;
+    }
+
+    private String getDeleteFieldQuery() {
+        if (deleteFieldQuery == null) {
+            deleteFieldQuery = "DELETE FROM " + escape("FIELD") + " WHERE "
+                    + escape("NAME") + " = ? AND " + escape("ENTRY_SHARED_ID") + " = ?";
+        }
+        return deleteFieldQuery;
+    }
+
+    private String getUpdateEntryTypeQuery() {
+        if (updateEntryTypeQuery == null) {
+            updateEntryTypeQuery = "UPDATE " + escape("ENTRY") + " SET " + escape("TYPE") + " = ?, "
+                    + escape("VERSION") + " = " + escape("VERSION") + " + 1 WHERE " + escape("SHARED_ID") + " = ?";
+        }
+        return updateEntryTypeQuery;
+    }
+
     /**
      * For use in test only. Inserts the BibEntry into the shared database.
      *
@@ -148,8 +192,36 @@ public abstract class DBMSProcessor {
         if (notYetExistingEntries.isEmpty()) {
             return;
         }
-        insertIntoEntryTable(notYetExistingEntries);
-        insertIntoFieldTable(notYetExistingEntries);
+        try {
+            connection.setAutoCommit(false); // write all entries in one transaction
+            insertIntoEntryTable(notYetExistingEntries);
+            insertIntoFieldTable(notYetExistingEntries);
+            connection.commit();
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+            rollback();
+        } finally {
+            enableAutoCommit();
+        }
+    }
+
+    /**
+     * Undoes the changes made in the current transaction
+     */
+    private void rollback() {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+        }
+    }
+
+    private void enableAutoCommit() {
+        try {
+            connection.setAutoCommit(true);
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+        }
     }
 
     /**
@@ -157,7 +229,7 @@ public abstract class DBMSProcessor {
      *
      * @param bibEntries List of {@link BibEntry} to be inserted
      */
-    protected void insertIntoEntryTable(List<BibEntry> bibEntries) {
+    protected void insertIntoEntryTable(List<BibEntry> bibEntries) throws SQLException {
         StringBuilder insertIntoEntryQuery = new StringBuilder()
                 .append("INSERT INTO ")
                 .append(escape("ENTRY"))
@@ -187,8 +259,6 @@ public abstract class DBMSProcessor {
                     LOGGER.error("Error: Some shared IDs left unassigned");
                 }
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
         }
     }
 
@@ -200,7 +270,7 @@ public abstract class DBMSProcessor {
      */
     private List<BibEntry> getNotYetExistingEntries(List<BibEntry> bibEntries) {
 
-        List<Integer> remoteIds = new ArrayList<>();
+        Set<Integer> remoteIds = new HashSet<>();
         List<Integer> localIds = bibEntries.stream()
                                            .map(BibEntry::getSharedBibEntryData)
                                            .map(SharedBibEntryData::getSharedID)
@@ -229,55 +299,21 @@ public abstract class DBMSProcessor {
     }
 
     /**
-     * Inserts the given list of BibEntry into FIELD table.
+     * Inserts the given list of BibEntry into FIELD table. All fields are sent as one batch.
      *
      * @param bibEntries {@link BibEntry} to be inserted
      */
-    protected void insertIntoFieldTable(List<BibEntry> bibEntries) {
-        try {
-            // Inserting into FIELD table
-            // Coerce to ArrayList in order to use List.get()
-            List<List<Field>> fields = bibEntries.stream().map(bibEntry -> new ArrayList<>(bibEntry.getFields()))
-                                                 .collect(Collectors.toList());
-
-            StringBuilder insertFieldQuery = new StringBuilder()
-                    .append("INSERT INTO ")
-                    .append(escape("FIELD"))
-                    .append("(")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(", ")
-                    .append(escape("NAME"))
-                    .append(", ")
-                    .append(escape("VALUE"))
-                    .append(") VALUES(?, ?, ?)");
-            int numFields = 0;
-            for (List<Field> entryFields : fields) {
-                numFields += entryFields.size();
-            }
-
-            if (numFields == 0) {
-                return; // Prevent SQL Exception
-            }
-
-            // Number of commas is fields.size() - 1
-            for (int i = 0; i < (numFields - 1); i++) {
-                insertFieldQuery.append(", (?, ?, ?)");
-            }
-            try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
-                int fieldsCompleted = 0;
-                for (int entryIndex = 0; entryIndex < fields.size(); entryIndex++) {
-                    for (int entryFieldsIndex = 0; entryFieldsIndex < fields.get(entryIndex).size(); entryFieldsIndex++) {
-                        // columnIndex starts with 1
-                        preparedFieldStatement.setInt((3 * fieldsCompleted) + 1, bibEntries.get(entryIndex).getSharedBibEntryData().getSharedID());
-                        preparedFieldStatement.setString((3 * fieldsCompleted) + 2, fields.get(entryIndex).get(entryFieldsIndex).getName());
-                        preparedFieldStatement.setString((3 * fieldsCompleted) + 3, bibEntries.get(entryIndex).getField(fields.get(entryIndex).get(entryFieldsIndex)).get());
-                        fieldsCompleted += 1;
-                    }
+    protected void insertIntoFieldTable(List<BibEntry> bibEntries) throws SQLException {
+        try (PreparedStatement preparedFieldStatement = connection.prepareStatement(getInsertFieldQuery())) {
+            for (BibEntry bibEntry : bibEntries) {
+                for (Map.Entry<Field, String> field : bibEntry.getFieldMap().entrySet()) {
+                    preparedFieldStatement.setInt(1, bibEntry.getSharedBibEntryData().getSharedID());
+                    preparedFieldStatement.setString(2, field.getKey().getName());
+                    preparedFieldStatement.setString(3, field.getValue());
+                    preparedFieldStatement.addBatch();
                 }
-                preparedFieldStatement.executeUpdate();
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
+            preparedFieldStatement.executeBatch();
         }
     }
 
@@ -306,23 +342,10 @@ public abstract class DBMSProcessor {
             if ((localBibEntry.getSharedBibEntryData().getVersion() >= sharedBibEntry.getSharedBibEntryData()
                                                                                      .getVersion()) || localBibEntry.equals(sharedBibEntry)) {
 
-                insertOrUpdateFields(localBibEntry);
+                insertOrUpdateFields(localBibEntry, sharedBibEntry);
 
                 // updating entry type
-                StringBuilder updateEntryTypeQuery = new StringBuilder()
-                        .append("UPDATE ")
-                        .append(escape("ENTRY"))
-                        .append(" SET ")
-                        .append(escape("TYPE"))
-                        .append(" = ?, ")
-                        .append(escape("VERSION"))
-                        .append(" = ")
-                        .append(escape("VERSION"))
-                        .append(" + 1 WHERE ")
-                        .append(escape("SHARED_ID"))
-                        .append(" = ?");
-
-                try (PreparedStatement preparedUpdateEntryTypeStatement = connection.prepareStatement(updateEntryTypeQuery.toString())) {
+                try (PreparedStatement preparedUpdateEntryTypeStatement = connection.prepareStatement(getUpdateEntryTypeQuery())) {
                     preparedUpdateEntryTypeStatement.setString(1, localBibEntry.getType().getName());
                     preparedUpdateEntryTypeStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
                     preparedUpdateEntryTypeStatement.executeUpdate();
@@ -346,94 +369,62 @@ public abstract class DBMSProcessor {
     private void removeSharedFieldsByDifference(BibEntry localBibEntry, BibEntry sharedBibEntry) throws SQLException {
         Set<Field> nullFields = new HashSet<>(sharedBibEntry.getFields());
         nullFields.removeAll(localBibEntry.getFields());
-        for (Field nullField : nullFields) {
-            StringBuilder deleteFieldQuery = new StringBuilder()
-                    .append("DELETE FROM ")
-                    .append(escape("FIELD"))
-                    .append(" WHERE ")
-                    .append(escape("NAME"))
-                    .append(" = ? AND ")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(" = ?");
-
-            try (PreparedStatement preparedDeleteFieldStatement = connection
-                    .prepareStatement(deleteFieldQuery.toString())) {
+        if (nullFields.isEmpty()) {
+            return;
+        }
+
+        try (PreparedStatement preparedDeleteFieldStatement = connection.prepareStatement(getDeleteFieldQuery())) {
+            for (Field nullField : nullFields) {
                 preparedDeleteFieldStatement.setString(1, nullField.getName());
                 preparedDeleteFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                preparedDeleteFieldStatement.executeUpdate();
+                preparedDeleteFieldStatement.addBatch();
             }
+            preparedDeleteFieldStatement.executeBatch();
         }
     }
 
     /**
-     * Helping method. Inserts a key-value pair into FIELD table for every field if not existing. Otherwise only an
-     * update is performed.
+     * Helping method. Writes every field whose local value differs from the shared one into the FIELD table. Fields
+     * known to the shared entry are updated and all other fields are inserted. All statements are sent as one batch per
+     * statement type.
      */
-    private void insertOrUpdateFields(BibEntry localBibEntry) throws SQLException {
-        for (Field field : localBibEntry.getFields()) {
-            // avoiding to use deprecated BibEntry.getField() method. null values are accepted by PreparedStatement!
-            Optional<String> valueOptional = localBibEntry.getField(field);
-            String value = null;
-            if (valueOptional.isPresent()) {
-                value = valueOptional.get();
+    private void insertOrUpdateFields(BibEntry localBibEntry, BibEntry sharedBibEntry) throws SQLException {
+        int sharedID = localBibEntry.getSharedBibEntryData().getSharedID();
+        Map<Field, String> changedFields = new HashMap<>();
+        for (Map.Entry<Field, String> field : localBibEntry.getFieldMap().entrySet()) {
+            if (!sharedBibEntry.getField(field.getKey()).equals(Optional.of(field.getValue()))) {
+                changedFields.put(field.getKey(), field.getValue());
             }
+        }
+        if (changedFields.isEmpty()) {
+            return;
+        }
 
-            StringBuilder selectFieldQuery = new StringBuilder()
-                    .append("SELECT * FROM ")
-                    .append(escape("FIELD"))
-                    .append(" WHERE ")
-                    .append(escape("NAME"))
-                    .append(" = ? AND ")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(" = ?");
-
-            try (PreparedStatement preparedSelectFieldStatement = connection
-                    .prepareStatement(selectFieldQuery.toString())) {
-                preparedSelectFieldStatement.setString(1, field.getName());
-                preparedSelectFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-
-                try (ResultSet selectFieldResultSet = preparedSelectFieldStatement.executeQuery()) {
-                    if (selectFieldResultSet.next()) { // check if field already exists
-                        StringBuilder updateFieldQuery = new StringBuilder()
-                                .append("UPDATE ")
-                                .append(escape("FIELD"))
-                                .append(" SET ")
-                                .append(escape("VALUE"))
-                                .append(" = ? WHERE ")
-                                .append(escape("NAME"))
-                                .append(" = ? AND ")
-                                .append(escape("ENTRY_SHARED_ID"))
-                                .append(" = ?");
-
-                        try (PreparedStatement preparedUpdateFieldStatement = connection
-                                .prepareStatement(updateFieldQuery.toString())) {
-                            preparedUpdateFieldStatement.setString(1, value);
-                            preparedUpdateFieldStatement.setString(2, field.getName());
-                            preparedUpdateFieldStatement.setInt(3, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedUpdateFieldStatement.executeUpdate();
-                        }
-                    } else {
-                        StringBuilder insertFieldQuery = new StringBuilder()
-                                .append("INSERT INTO ")
-                                .append(escape("FIELD"))
-                                .append("(")
-                                .append(escape("ENTRY_SHARED_ID"))
-                                .append(", ")
-                                .append(escape("NAME"))
-                                .append(", ")
-                                .append(escape("VALUE"))
-                                .append(") VALUES(?, ?, ?)");
-
-                        try (PreparedStatement preparedFieldStatement = connection
-                                .prepareStatement(insertFieldQuery.toString())) {
-                            preparedFieldStatement.setInt(1, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedFieldStatement.setString(2, field.getName());
-                            preparedFieldStatement.setString(3, value);
-                            preparedFieldStatement.executeUpdate();
-                        }
-                    }
+        try (PreparedStatement preparedUpdateFieldStatement = connection.prepareStatement(getUpdateFieldQuery());
+             PreparedStatement preparedInsertFieldStatement = connection.prepareStatement(getInsertFieldQuery())) {
+            boolean hasUpdates = false;
+            boolean hasInserts = false;
+            for (Map.Entry<Field, String> field : changedFields.entrySet()) {
+                if (sharedBibEntry.hasField(field.getKey())) {
+                    preparedUpdateFieldStatement.setString(1, field.getValue());
+                    preparedUpdateFieldStatement.setString(2, field.getKey().getName());
+                    preparedUpdateFieldStatement.setInt(3, sharedID);
+                    preparedUpdateFieldStatement.addBatch();
+                    hasUpdates = true;
+                } else {
+                    preparedInsertFieldStatement.setInt(1, sharedID);
+                    preparedInsertFieldStatement.setString(2, field.getKey().getName());
+                    preparedInsertFieldStatement.setString(3, field.getValue());
+                    preparedInsertFieldStatement.addBatch();
+                    hasInserts = true;
                 }
             }
+            if (hasUpdates) {
+                preparedUpdateFieldStatement.executeBatch();
+            }
+            if (hasInserts) {
+                preparedInsertFieldStatement.executeBatch();
+            }
         }
     }
 
@@ -456,13 +447,20 @@ public abstract class DBMSProcessor {
         query.append("?, ".repeat(bibEntries.size() - 1));
         query.append("?)");
 
-        try (PreparedStatement preparedStatement = connection.prepareStatement(query.toString())) {
-            for (int j = 0; j < bibEntries.size(); j++) {
-                preparedStatement.setInt(j + 1, bibEntries.get(j).getSharedBibEntryData().getSharedID());
+        try {
+            connection.setAutoCommit(false); // remove all entries in one transaction
+            try (PreparedStatement preparedStatement = connection.prepareStatement(query.toString())) {
+                for (int j = 0; j < bibEntries.size(); j++) {
+                    preparedStatement.setInt(j + 1, bibEntries.get(j).getSharedBibEntryData().getSharedID());
+                }
+                preparedStatement.executeUpdate();
             }
-            preparedStatement.executeUpdate();
+            connection.commit();
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
+            rollback();
+        } finally {
+            enableAutoCommit();
         }
     }
 
@@ -480,13 +478,25 @@ public abstract class DBMSProcessor {
     }
 
     /**
-     * Queries the database for shared entries. Optionally, they are filtered by the given list of sharedIds
+     * Queries the database for shared entries. Optionally, they are filtered by the given list of sharedIds. Long
+     * lists of IDs are queried in chunks, because database systems limit the number of parameters of a statement.
      *
      * @param sharedIDs the list of Ids to filter. If list is empty, then no filter is applied
      */
     public List<BibEntry> getSharedEntries(List<Integer> sharedIDs) {
         Objects.requireNonNull(sharedIDs);
+        if (sharedIDs.size() <= MAX_IDS_PER_QUERY) {
+            return querySharedEntries(sharedIDs);
+        }
+
+        List<BibEntry> sharedEntries = new ArrayList<>(sharedIDs.size());
+        for (int start = 0; start < sharedIDs.size(); start += MAX_IDS_PER_QUERY) {
+            sharedEntries.addAll(querySharedEntries(sharedIDs.subList(start, Math.min(start + MAX_IDS_PER_QUERY, sharedIDs.size()))));
+        }
+        return sharedEntries;
+    }
 
+    private List<BibEntry> querySharedEntries(List<Integer> sharedIDs) {
         List<BibEntry> sharedEntries = new ArrayList<>();
 
         StringBuilder query = new StringBuilder();
@@ -675,10 +685,38 @@ public abstract class DBMSProcessor {
     }
 
     /**
-     * Notifies all clients ({@link DBMSSynchronizer}) which are connected to the same DBMS. Needs to be implemented if
-     * LiveUpdate is supported by the DBMS
+     * Notifies all clients ({@link DBMSSynchronizer}) which are connected to the same DBMS about an unspecified change,
+     * so that they synchronize all entries. Needs to be implemented if LiveUpdate is supported by the DBMS
      */
     public void notifyClients() {
         // nothing to do
     }
+
+    /**
+     * Notifies all clients ({@link DBMSSynchronizer}) which are connected to the same DBMS that the given shared entries
+     * changed, so that they only need to pull these entries. Nothing is sent if the list is empty. By default, all
+     * clients are notified about an unspecified change.
+     *
+     * @param sharedIDs the shared IDs of the inserted, updated, or removed entries
+     */
+    public void notifyClients(List<Integer> sharedIDs) {
+        if (!sharedIDs.isEmpty()) {
+            notifyClients();
+        }
+    }
+
+    /**
+     * Opens another connection to the shared database, so that a notification listener does not block the connection
+     * used for synchronizing. Falls back to the connection of this processor if no other connection can be opened.
+     */
+    protected Connection openListenerConnection() {
+        if (connectionProperties instanceof DBMSConnectionProperties properties) {
+            try {
+                return new DBMSConnection(properties).getConnection();
+            } catch (SQLException | InvalidDBMSConnectionPropertiesException e) {
+                LOGGER.warn("Could not open a connection for listening to changes, using the shared connection", e);
+            }
+        }
+        return connection;
+    }
 }
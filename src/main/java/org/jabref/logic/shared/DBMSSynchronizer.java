@@ -3,6 +3,7 @@ package org.jabref.logic.shared;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -27,6 +28,7 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntriesEvent;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.metadata.event.MetaDataChangedEvent;
 import org.jabref.model.util.FileUpdateMonitor;
@@ -82,6 +84,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             pullWithLastEntry();
             synchronizeLocalDatabase();
             dbmsProcessor.insertEntries(event.getBibEntries());
+            dbmsProcessor.notifyClients(getSharedIDs(event.getBibEntries()));
             // Reset last changed entry because it just has already been synchronized -> Why necessary?
             lastEntryChanged = Optional.empty();
         }
@@ -122,6 +125,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             synchronizeLocalMetaData();
             pullWithLastEntry();
             dbmsProcessor.removeEntries(event.getBibEntries());
+            dbmsProcessor.notifyClients(getSharedIDs(event.getBibEntries()));
             synchronizeLocalDatabase();
         }
     }
@@ -185,38 +189,29 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
 
         // remove old entries locally
         removeNotSharedEntries(localEntries, idVersionMap.keySet());
+
+        Map<Integer, List<BibEntry>> localEntriesBySharedID = groupBySharedID(localEntries);
         List<Integer> entriesToInsertIntoLocalDatabase = new ArrayList<>();
-        // compare versions and update local entry if needed
+        List<Integer> entriesToUpdateInLocalDatabase = new ArrayList<>();
+        // compare versions and collect the local entries which need an update
         for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
-            boolean remoteEntryMatchingOneLocalEntryFound = false;
-            for (BibEntry localEntry : localEntries) {
-                if (idVersionEntry.getKey().equals(localEntry.getSharedBibEntryData().getSharedID())) {
-                    remoteEntryMatchingOneLocalEntryFound = true;
-                    if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
-                        Optional<BibEntry> sharedEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                        if (sharedEntry.isPresent()) {
-                            // update fields
-                            localEntry.setType(sharedEntry.get().getType(), EntriesEventSource.SHARED);
-                            localEntry.getSharedBibEntryData()
-                                      .setVersion(sharedEntry.get().getSharedBibEntryData().getVersion());
-                            sharedEntry.get().getFieldMap().forEach(
-                                    // copy remote values to local entry
-                                    (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
-                            );
-
-                            // locally remove not existing fields
-                            localEntry.getFields().stream()
-                                      .filter(field -> !sharedEntry.get().hasField(field))
-                                      .forEach(
-                                              field -> localEntry.clearField(field, EntriesEventSource.SHARED)
-                                      );
-                        }
+            List<BibEntry> matchingLocalEntries = localEntriesBySharedID.get(idVersionEntry.getKey());
+            if (matchingLocalEntries == null) {
+                entriesToInsertIntoLocalDatabase.add(idVersionEntry.getKey());
+            } else if (matchingLocalEntries.stream().anyMatch(localEntry -> idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion())) {
+                entriesToUpdateInLocalDatabase.add(idVersionEntry.getKey());
+            }
+        }
+
+        if (!entriesToUpdateInLocalDatabase.isEmpty()) {
+            // fetch all outdated entries at once
+            for (BibEntry sharedEntry : dbmsProcessor.getSharedEntries(entriesToUpdateInLocalDatabase)) {
+                for (BibEntry localEntry : localEntriesBySharedID.getOrDefault(sharedEntry.getSharedBibEntryData().getSharedID(), List.of())) {
+                    if (sharedEntry.getSharedBibEntryData().getVersion() > localEntry.getSharedBibEntryData().getVersion()) {
+                        applySharedEntry(localEntry, sharedEntry);
                     }
                 }
             }
-            if (!remoteEntryMatchingOneLocalEntryFound) {
-                entriesToInsertIntoLocalDatabase.add(idVersionEntry.getKey());
-            }
         }
 
         if (!entriesToInsertIntoLocalDatabase.isEmpty()) {
@@ -225,6 +220,24 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         }
     }
 
+    /**
+     * Applies the differences between the shared entry and the local entry to the local entry. Change events are only
+     * posted for the type and the fields which actually differ.
+     */
+    private void applySharedEntry(BibEntry localEntry, BibEntry sharedEntry) {
+        localEntry.setType(sharedEntry.getType(), EntriesEventSource.SHARED);
+        localEntry.getSharedBibEntryData().setVersion(sharedEntry.getSharedBibEntryData().getVersion());
+
+        // copy remote values to local entry, setting an unchanged value does not post an event
+        sharedEntry.getFieldMap().forEach((field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED));
+
+        // locally remove not existing fields
+        List<Field> removedFields = localEntry.getFields().stream()
+                                              .filter(field -> !sharedEntry.hasField(field))
+                                              .collect(Collectors.toList());
+        removedFields.forEach(field -> localEntry.clearField(field, EntriesEventSource.SHARED));
+    }
+
     /**
      * Removes all local entries which are not present on shared database.
      *
@@ -254,6 +267,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         try {
             BibDatabaseWriter.applySaveActions(bibEntry, metaData); // perform possibly existing save actions
             dbmsProcessor.updateEntry(bibEntry);
+            dbmsProcessor.notifyClients(List.of(bibEntry.getSharedBibEntryData().getSharedID()));
         } catch (OfflineLockException exception) {
             eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
         } catch (SQLException e) {
@@ -328,6 +342,59 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         synchronizeLocalMetaData();
     }
 
+    /**
+     * Synchronizes only the given shared entries with the local ones. Entries which do not exist on the shared
+     * database anymore are removed locally, entries which do not exist locally are inserted.
+     *
+     * @param sharedIDs the shared IDs of the entries which changed on the shared database
+     */
+    public void pullChanges(Set<Integer> sharedIDs) {
+        if (sharedIDs.isEmpty() || !checkCurrentConnection()) {
+            return;
+        }
+        pullWithLastEntry();
+
+        Map<Integer, List<BibEntry>> localEntriesBySharedID = groupBySharedID(bibDatabase.getEntries());
+        Set<Integer> removedSharedIDs = new HashSet<>(sharedIDs);
+        List<BibEntry> entriesToInsertIntoLocalDatabase = new ArrayList<>();
+        for (BibEntry sharedEntry : dbmsProcessor.getSharedEntries(new ArrayList<>(sharedIDs))) {
+            int sharedID = sharedEntry.getSharedBibEntryData().getSharedID();
+            removedSharedIDs.remove(sharedID);
+            List<BibEntry> matchingLocalEntries = localEntriesBySharedID.get(sharedID);
+            if (matchingLocalEntries == null) {
+                entriesToInsertIntoLocalDatabase.add(sharedEntry);
+                continue;
+            }
+            for (BibEntry localEntry : matchingLocalEntries) {
+                if (sharedEntry.getSharedBibEntryData().getVersion() > localEntry.getSharedBibEntryData().getVersion()) {
+                    applySharedEntry(localEntry, sharedEntry);
+                }
+            }
+        }
+
+        List<BibEntry> entriesToRemove = removedSharedIDs.stream()
+                                                         .flatMap(sharedID -> localEntriesBySharedID.getOrDefault(sharedID, List.of()).stream())
+                                                         .collect(Collectors.toList());
+        if (!entriesToRemove.isEmpty()) {
+            eventBus.post(new SharedEntriesNotPresentEvent(entriesToRemove));
+            bibDatabase.removeEntries(entriesToRemove, EntriesEventSource.SHARED);
+        }
+        if (!entriesToInsertIntoLocalDatabase.isEmpty()) {
+            bibDatabase.insertEntries(entriesToInsertIntoLocalDatabase, EntriesEventSource.SHARED);
+        }
+    }
+
+    private static Map<Integer, List<BibEntry>> groupBySharedID(List<BibEntry> entries) {
+        return entries.stream()
+                      .collect(Collectors.groupingBy(entry -> entry.getSharedBibEntryData().getSharedID()));
+    }
+
+    private static List<Integer> getSharedIDs(List<BibEntry> entries) {
+        return entries.stream()
+                      .map(entry -> entry.getSharedBibEntryData().getSharedID())
+                      .collect(Collectors.toList());
+    }
+
     // Synchronizes local BibEntries only if last entry changes still remain
     public void pullLastEntryChanges() {
         if (!lastEntryChanged.isEmpty()) {
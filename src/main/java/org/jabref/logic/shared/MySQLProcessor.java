@@ -1,12 +1,21 @@
 package org.jabref.logic.shared;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.List;
+
+import org.jabref.gui.JabRefExecutorService;
+import org.jabref.logic.shared.listener.MySQLChangeLogListener;
 
 /**
  * Processes all incoming or outgoing bib data to MySQL Database and manages its structure.
  */
 public class MySQLProcessor extends DBMSProcessor {
 
+    private MySQLChangeLogListener listener;
+    private Connection listenerConnection;
+
     public MySQLProcessor(DatabaseConnection connection) {
         super(connection);
     }
@@ -35,6 +44,77 @@ public class MySQLProcessor extends DBMSProcessor {
                 "CREATE TABLE IF NOT EXISTS `METADATA` (" +
                         "`KEY` varchar(255) NOT NULL," +
                         "`VALUE` text NOT NULL)");
+
+        createChangeLogTable();
+    }
+
+    /**
+     * Creates the table other clients poll for changes, as MySQL does not support notifications. It is also created
+     * for databases which were set up before the table was introduced.
+     */
+    private void createChangeLogTable() throws SQLException {
+        connection.createStatement().executeUpdate(
+                "CREATE TABLE IF NOT EXISTS `ENTRY_CHANGE` (" +
+                        "`ID` INT(11) NOT NULL PRIMARY KEY AUTO_INCREMENT, " +
+                        "`ENTRY_SHARED_ID` INT(11) DEFAULT NULL, " +
+                        "`PROCESSOR_ID` VARCHAR(36) NOT NULL, " +
+                        "`CHANGED_AT` TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+    }
+
+    @Override
+    public void startNotificationListener(DBMSSynchronizer dbmsSynchronizer) {
+        try {
+            createChangeLogTable();
+            listenerConnection = openListenerConnection();
+            listener = new MySQLChangeLogListener(dbmsSynchronizer, listenerConnection);
+            JabRefExecutorService.INSTANCE.execute(listener);
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+        }
+    }
+
+    @Override
+    public void stopNotificationListener() {
+        if (listener == null) {
+            return;
+        }
+        try {
+            listener.stop();
+            if (listenerConnection != connection) {
+                listenerConnection.close();
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+        }
+    }
+
+    @Override
+    public void notifyClients() {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO `ENTRY_CHANGE` (`ENTRY_SHARED_ID`, `PROCESSOR_ID`) VALUES (NULL, ?)")) {
+            statement.setString(1, PROCESSOR_ID);
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+        }
+    }
+
+    @Override
+    public void notifyClients(List<Integer> sharedIDs) {
+        if (sharedIDs.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO `ENTRY_CHANGE` (`ENTRY_SHARED_ID`, `PROCESSOR_ID`) VALUES (?, ?)")) {
+            for (Integer sharedID : sharedIDs) {
+                statement.setInt(1, sharedID);
+                statement.setString(2, PROCESSOR_ID);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+        }
     }
 
     @Override
@@ -1,9 +1,11 @@
 package org.jabref.logic.shared;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collections;
 import java.util.List;
 
 import org.jabref.gui.JabRefExecutorService;
@@ -17,7 +19,14 @@ import org.postgresql.PGConnection;
  */
 public class PostgreSQLProcessor extends DBMSProcessor {
 
+    // Unquoted identifiers are lower case in PostgreSQL
+    private static final String NOTIFICATION_CHANNEL = "jabrefliveupdate";
+
+    // PostgreSQL limits the payload of a notification to 8000 bytes
+    private static final int MAX_PAYLOAD_LENGTH = 7900;
+
     private PostgresSQLNotificationListener listener;
+    private Connection listenerConnection;
 
     public PostgreSQLProcessor(DatabaseConnection connection) {
         super(connection);
@@ -49,7 +58,7 @@ public class PostgreSQLProcessor extends DBMSProcessor {
     }
 
     @Override
-    protected void insertIntoEntryTable(List<BibEntry> bibEntries) {
+    protected void insertIntoEntryTable(List<BibEntry> bibEntries) throws SQLException {
         StringBuilder insertIntoEntryQuery = new StringBuilder()
                 .append("INSERT INTO ")
                 .append(escape("ENTRY"))
@@ -78,8 +87,6 @@ public class PostgreSQLProcessor extends DBMSProcessor {
                     LOGGER.error("Error: Some shared IDs left unassigned");
                 }
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
         }
     }
 
@@ -93,10 +100,12 @@ public class PostgreSQLProcessor extends DBMSProcessor {
         // Disable cleanup output of ThreadedHousekeeper
         // Logger.getLogger(ThreadedHousekeeper.class.getName()).setLevel(Level.SEVERE);
         try {
-            connection.createStatement().execute("LISTEN jabrefLiveUpdate");
+            // The listener blocks its connection while waiting for notifications
+            listenerConnection = openListenerConnection();
+            listenerConnection.createStatement().execute("LISTEN " + NOTIFICATION_CHANNEL);
             // Do not use `new PostgresSQLNotificationListener(...)` as the object has to exist continuously!
             // Otherwise the listener is going to be deleted by GC.
-            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            PGConnection pgConnection = listenerConnection.unwrap(PGConnection.class);
             listener = new PostgresSQLNotificationListener(dbmsSynchronizer, pgConnection);
             JabRefExecutorService.INSTANCE.execute(listener);
         } catch (SQLException e) {
@@ -108,6 +117,9 @@ public class PostgreSQLProcessor extends DBMSProcessor {
     public void stopNotificationListener() {
         try {
             listener.stop();
+            if (listenerConnection != connection) {
+                listenerConnection.close();
+            }
             connection.close();
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
@@ -116,8 +128,28 @@ public class PostgreSQLProcessor extends DBMSProcessor {
 
     @Override
     public void notifyClients() {
-        try {
-            connection.createStatement().execute("NOTIFY jabrefLiveUpdate, '" + PROCESSOR_ID + "';");
+        sendNotification(PostgresSQLNotificationListener.createPayload(Collections.emptyList()));
+    }
+
+    @Override
+    public void notifyClients(List<Integer> sharedIDs) {
+        if (sharedIDs.isEmpty()) {
+            return;
+        }
+        String payload = PostgresSQLNotificationListener.createPayload(sharedIDs);
+        if (payload.length() > MAX_PAYLOAD_LENGTH) {
+            // too many entries, let the clients synchronize everything
+            notifyClients();
+            return;
+        }
+        sendNotification(payload);
+    }
+
+    private void sendNotification(String payload) {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            statement.setString(1, NOTIFICATION_CHANNEL);
+            statement.setString(2, payload);
+            statement.execute();
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
         }
@@ -0,0 +1,79 @@
+package org.jabref.logic.shared.listener;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.logic.shared.DBMSProcessor;
+import org.jabref.logic.shared.DBMSSynchronizer;
+
+/**
+ * A listener for changes of a MySQL database. MySQL has no notifications, thus the clients write their changes into
+ * the change log table <code>ENTRY_CHANGE</code>, which is polled by this listener.
+ * <p>
+ * The listeners of all clients purge changes older than {@link #CHANGE_LOG_RETENTION_MINUTES} from time to time. All
+ * clients poll far more often, and a client connecting to the database synchronizes all entries anyway.
+ */
+public class MySQLChangeLogListener extends SharedChangesListener {
+
+    private static final int CHANGE_LOG_RETENTION_MINUTES = 10;
+    private static final long PURGE_INTERVAL_MILLIS = 60_000;
+
+    private final Connection connection;
+    private int lastChangeID;
+    private long lastPurgeMillis;
+
+    public MySQLChangeLogListener(DBMSSynchronizer dbmsSynchronizer, Connection connection) throws SQLException {
+        super(dbmsSynchronizer);
+        this.connection = connection;
+
+        try (ResultSet resultSet = connection.createStatement().executeQuery("SELECT MAX(`ID`) FROM `ENTRY_CHANGE`")) {
+            lastChangeID = resultSet.next() ? resultSet.getInt(1) : 0;
+        }
+        purgeOldChanges();
+    }
+
+    @Override
+    protected Optional<SharedChanges> awaitChanges(int timeoutMillis) throws SQLException, InterruptedException {
+        if ((System.currentTimeMillis() - lastPurgeMillis) >= PURGE_INTERVAL_MILLIS) {
+            purgeOldChanges();
+        }
+
+        Optional<SharedChanges> changes = Optional.empty();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT `ID`, `ENTRY_SHARED_ID`, `PROCESSOR_ID` FROM `ENTRY_CHANGE` WHERE `ID` > ? ORDER BY `ID`")) {
+            statement.setInt(1, lastChangeID);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    lastChangeID = resultSet.getInt("ID");
+                    if (DBMSProcessor.PROCESSOR_ID.equals(resultSet.getString("PROCESSOR_ID"))) {
+                        continue;
+                    }
+                    int sharedID = resultSet.getInt("ENTRY_SHARED_ID");
+                    SharedChanges change = resultSet.wasNull() ? SharedChanges.ofUnknownChanges() : SharedChanges.ofEntries(List.of(sharedID));
+                    changes = Optional.of(changes.map(previous -> previous.merge(change)).orElse(change));
+                }
+            }
+        }
+
+        if (changes.isEmpty()) {
+            Thread.sleep(timeoutMillis);
+        }
+        return changes;
+    }
+
+    /**
+     * Deletes the changes which all clients have seen, so that the change log does not grow during long sessions
+     */
+    private void purgeOldChanges() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate(
+                    "DELETE FROM `ENTRY_CHANGE` WHERE `CHANGED_AT` < NOW() - INTERVAL " + CHANGE_LOG_RETENTION_MINUTES + " MINUTE");
+        }
+        lastPurgeMillis = System.currentTimeMillis();
+    }
+}
@@ -1,6 +1,9 @@
 package org.jabref.logic.shared.listener;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import org.jabref.logic.shared.DBMSProcessor;
 import org.jabref.logic.shared.DBMSSynchronizer;
@@ -12,45 +15,80 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A listener for PostgreSQL database notifications.
+ * <p>
+ * The payload of a notification is the ID of the sending processor, optionally followed by a colon and the comma
+ * separated shared IDs of the changed entries. Without shared IDs, a full synchronization is performed.
  */
-public class PostgresSQLNotificationListener implements Runnable {
+public class PostgresSQLNotificationListener extends SharedChangesListener {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PostgresSQLNotificationListener.class);
 
-    private final DBMSSynchronizer dbmsSynchronizer;
+    private static final String ID_SEPARATOR = ",";
+    private static final String PAYLOAD_SEPARATOR = ":";
+
     private final PGConnection pgConnection;
-    private volatile boolean stop;
 
     public PostgresSQLNotificationListener(DBMSSynchronizer dbmsSynchronizer, PGConnection pgConnection) {
-        this.dbmsSynchronizer = dbmsSynchronizer;
+        super(dbmsSynchronizer);
         this.pgConnection = pgConnection;
     }
 
     @Override
-    public void run() {
-        stop = false;
-        try {
-            // noinspection InfiniteLoopStatement
-            while (!stop) {
-                PGNotification notifications[] = pgConnection.getNotifications();
-
-                if (notifications != null) {
-                    for (PGNotification notification : notifications) {
-                        if (!notification.getName().equals(DBMSProcessor.PROCESSOR_ID)) {
-                            dbmsSynchronizer.pullChanges();
-                        }
-                    }
-                }
-
-                // Wait a while before checking again for new notifications
-                Thread.sleep(500);
+    protected Optional<SharedChanges> awaitChanges(int timeoutMillis) throws SQLException {
+        // Blocks until a notification arrives or the timeout elapses
+        PGNotification[] notifications = pgConnection.getNotifications(timeoutMillis);
+        if (notifications == null) {
+            return Optional.empty();
+        }
+
+        Optional<SharedChanges> changes = Optional.empty();
+        for (PGNotification notification : notifications) {
+            Optional<SharedChanges> notifiedChanges = parsePayload(notification.getParameter());
+            if (notifiedChanges.isPresent()) {
+                changes = Optional.of(changes.map(previous -> previous.merge(notifiedChanges.get()))
+                                             .orElse(notifiedChanges.get()));
             }
-        } catch (SQLException | InterruptedException exception) {
-            LOGGER.error("Error while listening for updates to PostgresSQL", exception);
         }
+        return changes;
+    }
+
+    /**
+     * Creates the payload of a notification about the given changed entries
+     *
+     * @param sharedIDs the shared IDs of the changed entries, or an empty list if a full synchronization is required
+     */
+    public static String createPayload(List<Integer> sharedIDs) {
+        if (sharedIDs.isEmpty()) {
+            return DBMSProcessor.PROCESSOR_ID;
+        }
+        List<String> ids = new ArrayList<>(sharedIDs.size());
+        for (Integer sharedID : sharedIDs) {
+            ids.add(sharedID.toString());
+        }
+        return DBMSProcessor.PROCESSOR_ID + PAYLOAD_SEPARATOR + String.join(ID_SEPARATOR, ids);
     }
 
-    public void stop() {
-        stop = true;
+    /**
+     * @return the changes announced by the given payload, or an empty optional if they were sent by this processor
+     */
+    static Optional<SharedChanges> parsePayload(String payload) {
+        String[] parts = payload.split(PAYLOAD_SEPARATOR, 2);
+        if (parts[0].equals(DBMSProcessor.PROCESSOR_ID)) {
+            return Optional.empty();
+        }
+        if ((parts.length < 2) || parts[1].isEmpty()) {
+            return Optional.of(SharedChanges.ofUnknownChanges());
+        }
+
+        List<Integer> sharedIDs = new ArrayList<>();
+        for (String id : parts[1].split(ID_SEPARATOR)) {
+            try {
+                sharedIDs.add(Integer.parseInt(id));
+            } catch (NumberFormatException e) {
+                LOGGER.warn("Invalid notification payload '{}'", payload);
+                return Optional.of(SharedChanges.ofUnknownChanges());
+            }
+        }
+        return Optional.of(SharedChanges.ofEntries(sharedIDs));
     }
 }
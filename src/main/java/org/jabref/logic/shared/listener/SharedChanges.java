@@ -0,0 +1,48 @@
+package org.jabref.logic.shared.listener;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The changes of a shared database announced by other clients: either the shared IDs of the changed entries, or an
+ * unspecified change (e.g., of the meta data) which requires a full synchronization.
+ */
+public class SharedChanges {
+
+    private final Set<Integer> sharedIDs;
+    private final boolean fullSynchronizationRequired;
+
+    private SharedChanges(Set<Integer> sharedIDs, boolean fullSynchronizationRequired) {
+        this.sharedIDs = sharedIDs;
+        this.fullSynchronizationRequired = fullSynchronizationRequired;
+    }
+
+    public static SharedChanges ofEntries(Collection<Integer> sharedIDs) {
+        return new SharedChanges(new HashSet<>(sharedIDs), false);
+    }
+
+    public static SharedChanges ofUnknownChanges() {
+        return new SharedChanges(Set.of(), true);
+    }
+
+    /**
+     * Returns the changes of this and the other changes together
+     */
+    public SharedChanges merge(SharedChanges other) {
+        if (fullSynchronizationRequired || other.fullSynchronizationRequired) {
+            return ofUnknownChanges();
+        }
+        Set<Integer> mergedIDs = new HashSet<>(sharedIDs);
+        mergedIDs.addAll(other.sharedIDs);
+        return new SharedChanges(mergedIDs, false);
+    }
+
+    public Set<Integer> getSharedIDs() {
+        return sharedIDs;
+    }
+
+    public boolean isFullSynchronizationRequired() {
+        return fullSynchronizationRequired;
+    }
+}
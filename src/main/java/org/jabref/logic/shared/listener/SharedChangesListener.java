@@ -0,0 +1,87 @@
+package org.jabref.logic.shared.listener;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+import org.jabref.logic.shared.DBMSSynchronizer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Waits for changes of the shared database announced by other clients and pulls them. Changes announced in quick
+ * succession (e.g., while another client imports many entries) are collected and pulled together.
+ */
+public abstract class SharedChangesListener implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedChangesListener.class);
+
+    private static final int WAIT_TIMEOUT_MILLIS = 1000;
+
+    /**
+     * Changes are collected until no further change arrives within this period ...
+     */
+    private static final int QUIET_PERIOD_MILLIS = 200;
+
+    /**
+     * ... but at most for this time, so that a steady stream of changes does not delay the pull forever
+     */
+    private static final int MAX_COLLECTION_MILLIS = 2000;
+
+    private final DBMSSynchronizer dbmsSynchronizer;
+    private volatile boolean stop;
+
+    protected SharedChangesListener(DBMSSynchronizer dbmsSynchronizer) {
+        this.dbmsSynchronizer = dbmsSynchronizer;
+    }
+
+    /**
+     * Waits at most the given time for changes announced by other clients.
+     *
+     * @return the announced changes, or an empty optional if no change was announced within the given time
+     */
+    protected abstract Optional<SharedChanges> awaitChanges(int timeoutMillis) throws SQLException, InterruptedException;
+
+    @Override
+    public void run() {
+        stop = false;
+        try {
+            while (!stop) {
+                Optional<SharedChanges> changes = awaitChanges(WAIT_TIMEOUT_MILLIS);
+                if (changes.isEmpty()) {
+                    continue;
+                }
+
+                SharedChanges collectedChanges = changes.get();
+                long deadline = System.currentTimeMillis() + MAX_COLLECTION_MILLIS;
+                while (!stop && (System.currentTimeMillis() < deadline)) {
+                    Optional<SharedChanges> furtherChanges = awaitChanges(QUIET_PERIOD_MILLIS);
+                    if (furtherChanges.isEmpty()) {
+                        break;
+                    }
+                    collectedChanges = collectedChanges.merge(furtherChanges.get());
+                }
+
+                if (!stop) {
+                    pull(collectedChanges);
+                }
+            }
+        } catch (SQLException | InterruptedException exception) {
+            if (!stop) {
+                LOGGER.error("Error while listening for changes of the shared database", exception);
+            }
+        }
+    }
+
+    private void pull(SharedChanges changes) {
+        if (changes.isFullSynchronizationRequired()) {
+            dbmsSynchronizer.pullChanges();
+        } else {
+            dbmsSynchronizer.pullChanges(changes.getSharedIDs());
+        }
+    }
+
+    public void stop() {
+        stop = true;
+    }
+}
@@ -15,10 +15,12 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
 import org.jabref.logic.bibtex.FieldWriter;
@@ -32,7 +34,9 @@ import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.EntryTokenIndex;
 import org.jabref.model.strings.StringUtil;
 
 import com.google.common.eventbus.EventBus;
@@ -65,6 +69,22 @@ public class BibDatabase {
 
     private String newLineSeparator = System.lineSeparator();
 
+    // The token index is built under its own lock, as building it under the monitor of the database would block changes
+    private final Object tokenIndexLock = new Object();
+    private volatile EntryTokenIndex tokenIndex;
+
+    private final CitationKeyIndex citationKeyIndex = new CitationKeyIndex();
+
+    /**
+     * Every update of an entry increments the modification count and stamps the entry with it. The stamps are set by
+     * the first listener of the entry list, i.e., before other listeners of the list (e.g., a filtered list) see the
+     * update and before the {@link FieldChangedEvent} is posted. Updates are only counted after an index asked for it
+     * through {@link #trackModifications()}.
+     */
+    private volatile boolean modificationsTracked = false;
+    private final AtomicLong modificationCount = new AtomicLong();
+    private final Map<String, Long> entryModifications = new ConcurrentHashMap<>();
+
     public BibDatabase(List<BibEntry> entries, String newLineSeparator) {
         this(entries);
         this.newLineSeparator = newLineSeparator;
@@ -77,6 +97,7 @@ public class BibDatabase {
 
     public BibDatabase() {
         this.registerListener(new KeyChangeListener(this));
+        entries.addListener(this::stampUpdatedEntries);
     }
 
     /**
@@ -130,6 +151,70 @@ public class BibDatabase {
         return FXCollections.unmodifiableObservableList(entries);
     }
 
+    private void stampUpdatedEntries(ListChangeListener.Change<? extends BibEntry> change) {
+        if (!modificationsTracked) {
+            return;
+        }
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    entryModifications.put(change.getList().get(i).getId(), modificationCount.incrementAndGet());
+                }
+            }
+            for (BibEntry entry : change.getRemoved()) {
+                entryModifications.remove(entry.getId());
+            }
+        }
+    }
+
+    /**
+     * Starts counting the updates of the entries. Indexes call this before they read the entries, as they rely on
+     * {@link #getModificationCount(BibEntry)} to detect entries changed while they did not look.
+     */
+    public void trackModifications() {
+        modificationsTracked = true;
+    }
+
+    /**
+     * Returns the modification count of the last update of the given entry, or 0 if the entry was not updated since it
+     * was added or since the updates are tracked. The count is increased as soon as a field of the entry changes, even before the corresponding
+     * {@link FieldChangedEvent} is posted.
+     */
+    public long getModificationCount(BibEntry entry) {
+        return entryModifications.getOrDefault(entry.getId(), 0L);
+    }
+
+    /**
+     * Returns the token index of the field values of this database. The index is built on first use and kept up to
+     * date afterwards.
+     *
+     * @return the index, or an empty optional if the index grew too large and gave up
+     */
+    public Optional<EntryTokenIndex> getTokenIndex() {
+        EntryTokenIndex index = tokenIndex;
+        if (index == null) {
+            synchronized (tokenIndexLock) {
+                if (tokenIndex == null) {
+                    tokenIndex = new EntryTokenIndex(this);
+                }
+                index = tokenIndex;
+            }
+        }
+        return index.isStopped() ? Optional.empty() : Optional.of(index);
+    }
+
+    /**
+     * Shuts the token index down, e.g., when the library is closed. A later search builds the index again.
+     */
+    public void shutdownTokenIndex() {
+        synchronized (tokenIndexLock) {
+            if (tokenIndex != null) {
+                tokenIndex.shutdown();
+                tokenIndex = null;
+            }
+        }
+    }
+
     /**
      * Returns a set of Strings, that contains all field names that are visible. This means that the fields
      * are not internal fields. Internal fields are fields, that are starting with "_".
@@ -146,15 +231,10 @@ public class BibDatabase {
     }
 
     /**
-     * Returns the entry with the given citation key.
+     * Returns the entry with the given citation key. If there are several ones, the first one in the database is returned.
      */
-    public synchronized Optional<BibEntry> getEntryByCitationKey(String key) {
-        for (BibEntry entry : entries) {
-            if (key.equals(entry.getCitationKey().orElse(null))) {
-                return Optional.of(entry);
-            }
-        }
-        return Optional.empty();
+    public Optional<BibEntry> getEntryByCitationKey(String key) {
+        return citationKeyIndex.getEntries(key).stream().findFirst();
     }
 
     /**
@@ -163,17 +243,8 @@ public class BibDatabase {
      *
      * @return list of entries that contains the given key
      */
-    public synchronized List<BibEntry> getEntriesByCitationKey(String key) {
-        List<BibEntry> result = new ArrayList<>();
-
-        for (BibEntry entry : entries) {
-            entry.getCitationKey().ifPresent(entryKey -> {
-                if (key.equals(entryKey)) {
-                    result.add(entry);
-                }
-            });
-        }
-        return result;
+    public List<BibEntry> getEntriesByCitationKey(String key) {
+        return new ArrayList<>(citationKeyIndex.getEntries(key));
     }
 
     /**
@@ -214,6 +285,7 @@ public class BibDatabase {
             eventBus.post(new EntriesAddedEvent(newEntries, newEntries.get(0), eventSource));
         }
         entries.addAll(newEntries);
+        citationKeyIndex.addEntries(newEntries);
     }
 
     public synchronized void removeEntry(BibEntry bibEntry) {
@@ -244,11 +316,19 @@ public class BibDatabase {
     public synchronized void removeEntries(List<BibEntry> toBeDeleted, EntriesEventSource eventSource) {
         Objects.requireNonNull(toBeDeleted);
 
-        List<String> ids = new ArrayList<>();
+        Set<String> ids = new HashSet<>();
         for (BibEntry entry : toBeDeleted) {
             ids.add(entry.getId());
         }
-        boolean anyRemoved = entries.removeIf(entry -> ids.contains(entry.getId()));
+        List<BibEntry> removedEntries = new ArrayList<>();
+        boolean anyRemoved = entries.removeIf(entry -> {
+            if (ids.contains(entry.getId())) {
+                removedEntries.add(entry);
+                return true;
+            }
+            return false;
+        });
+        citationKeyIndex.removeEntries(removedEntries);
         if (anyRemoved) {
             eventBus.post(new EntriesRemovedEvent(toBeDeleted, eventSource));
         }
@@ -582,6 +662,9 @@ public class BibDatabase {
 
     @Subscribe
     private void relayEntryChangeEvent(FieldChangedEvent event) {
+        if (event.getField() == InternalField.KEY_FIELD) {
+            citationKeyIndex.updateCitationKey(event.getBibEntry());
+        }
         eventBus.post(event);
     }
 
@@ -619,10 +702,7 @@ public class BibDatabase {
      * Returns the number of occurrences of the given citation key in this database.
      */
     public long getNumberOfCitationKeyOccurrences(String key) {
-        return entries.stream()
-                      .flatMap(entry -> entry.getCitationKey().stream())
-                      .filter(key::equals)
-                      .count();
+        return citationKeyIndex.getEntries(key).size();
     }
 
     /**
@@ -0,0 +1,95 @@
+package org.jabref.model.database;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * Index from the citation keys to the entries of a database having them.
+ * <p>
+ * The entries of a key are kept in an immutable list in the order of the database, which is replaced on every change.
+ * Thus, lookups do not need to lock. Changes are serialized by the monitor of the index.
+ */
+class CitationKeyIndex {
+
+    private final Map<String, List<BibEntry>> entriesByKey = new ConcurrentHashMap<>();
+
+    // Entries are only appended to the database, so the order of insertion is the order of the database
+    private final Map<BibEntry, Long> positions = new IdentityHashMap<>();
+    private final Map<BibEntry, String> indexedKeys = new IdentityHashMap<>();
+    private long nextPosition = 0;
+
+    synchronized void addEntries(Collection<BibEntry> entries) {
+        for (BibEntry entry : entries) {
+            if (positions.containsKey(entry)) {
+                continue;
+            }
+            positions.put(entry, nextPosition++);
+            entry.getCitationKey().ifPresent(key -> addToKey(key, entry));
+        }
+    }
+
+    synchronized void removeEntries(Collection<BibEntry> entries) {
+        for (BibEntry entry : entries) {
+            String key = indexedKeys.get(entry);
+            if (key != null) {
+                removeFromKey(key, entry);
+            }
+            positions.remove(entry);
+        }
+    }
+
+    /**
+     * Updates the index after the citation key of the given entry changed. Entries which are not part of the database
+     * (anymore) are ignored.
+     */
+    synchronized void updateCitationKey(BibEntry entry) {
+        if (!positions.containsKey(entry)) {
+            return;
+        }
+
+        String oldKey = indexedKeys.get(entry);
+        Optional<String> newKey = entry.getCitationKey();
+        if (newKey.isPresent() && newKey.get().equals(oldKey)) {
+            return;
+        }
+
+        if (oldKey != null) {
+            removeFromKey(oldKey, entry);
+        }
+        newKey.ifPresent(key -> addToKey(key, entry));
+    }
+
+    /**
+     * Returns the entries having the given citation key in the order of the database
+     */
+    List<BibEntry> getEntries(String key) {
+        return entriesByKey.getOrDefault(key, List.of());
+    }
+
+    private void addToKey(String key, BibEntry entry) {
+        entriesByKey.compute(key, (k, current) -> {
+            List<BibEntry> updated = (current == null) ? new ArrayList<>(1) : new ArrayList<>(current);
+            updated.add(entry);
+            updated.sort(Comparator.comparingLong(positions::get));
+            return List.copyOf(updated);
+        });
+        indexedKeys.put(entry, key);
+    }
+
+    private void removeFromKey(String key, BibEntry entry) {
+        entriesByKey.computeIfPresent(key, (k, current) -> {
+            List<BibEntry> updated = new ArrayList<>(current);
+            updated.removeIf(indexedEntry -> indexedEntry == entry);
+            return updated.isEmpty() ? null : List.copyOf(updated);
+        });
+        indexedKeys.remove(entry);
+    }
+}
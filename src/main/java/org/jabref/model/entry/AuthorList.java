@@ -2,7 +2,6 @@ package org.jabref.model.entry;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.WeakHashMap;
 import java.util.function.Function;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -10,6 +9,11 @@ import java.util.stream.Collectors;
 import org.jabref.architecture.AllowedToUseLogic;
 import org.jabref.logic.importer.AuthorListParser;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+
 /**
  * This is an immutable class representing information of either <CODE>author</CODE> or <CODE>editor</CODE> field in bibtex record.
  * <p>
@@ -115,9 +119,15 @@ import org.jabref.logic.importer.AuthorListParser;
 @AllowedToUseLogic("because it needs access to AuthorList parser")
 public class AuthorList {
 
-    private static final WeakHashMap<String, AuthorList> AUTHOR_CACHE = new WeakHashMap<>();
+    private static final int MAXIMUM_CACHED_AUTHOR_LISTS = 50_000;
+
+    // Author lists are parsed from several threads, e.g., when exporting, searching or looking for duplicates
+    private static final LoadingCache<String, AuthorList> AUTHOR_CACHE = CacheBuilder.newBuilder()
+                                                                                  .maximumSize(MAXIMUM_CACHED_AUTHOR_LISTS)
+                                                                                  .recordStats()
+                                                                                  .build(CacheLoader.from(authors -> new AuthorListParser().parse(authors)));
     private final List<Author> authors;
-    private AuthorList latexFreeAuthors;
+    private volatile AuthorList latexFreeAuthors;
 
     /**
      * Creates a new list of authors.
@@ -170,13 +180,15 @@ public class AuthorList {
     public static AuthorList parse(final String authors) {
         Objects.requireNonNull(authors);
 
-        AuthorList authorList = AUTHOR_CACHE.get(authors);
-        if (authorList == null) {
-            AuthorListParser parser = new AuthorListParser();
-            authorList = parser.parse(authors);
-            AUTHOR_CACHE.put(authors, authorList);
-        }
-        return authorList;
+        return AUTHOR_CACHE.getUnchecked(authors);
+    }
+
+    /**
+     * Returns the hit and miss statistics of the cache of the parsed author lists, which is shared by all users of
+     * {@link #parse(String)}.
+     */
+    public static CacheStats getCacheStats() {
+        return AUTHOR_CACHE.stats();
     }
 
     /**
@@ -292,13 +304,15 @@ public class AuthorList {
      * Returns a LaTeX-free version of this `AuthorList`.
      */
     public AuthorList latexFree() {
-        if (latexFreeAuthors == null) {
-            latexFreeAuthors = new AuthorList(authors.stream()
-                                                     .map(Author::latexFree)
-                                                     .collect(Collectors.toUnmodifiableList()));
-            latexFreeAuthors.latexFreeAuthors = latexFreeAuthors;
+        AuthorList latexFree = latexFreeAuthors;
+        if (latexFree == null) {
+            latexFree = new AuthorList(authors.stream()
+                                              .map(Author::latexFree)
+                                              .collect(Collectors.toUnmodifiableList()));
+            latexFree.latexFreeAuthors = latexFree;
+            latexFreeAuthors = latexFree;
         }
-        return latexFreeAuthors;
+        return latexFree;
     }
 
     /**
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -23,6 +24,9 @@ public class BibEntryTypesManager {
     private final InternalEntryTypes BIBTEX = new InternalEntryTypes(Stream.concat(BibtexEntryTypeDefinitions.ALL.stream(), IEEETranEntryTypeDefinitions.ALL.stream()).collect(Collectors.toList()));
     private final InternalEntryTypes BIBLATEX = new InternalEntryTypes(Stream.concat(BiblatexEntryTypeDefinitions.ALL.stream(), BiblatexSoftwareEntryTypeDefinitions.ALL.stream()).collect(Collectors.toList()));
 
+    // Incremented on every change of the custom entry types, so that caches depending on the types can be invalidated
+    private final AtomicLong modificationCount = new AtomicLong();
+
     public BibEntryTypesManager() {
     }
 
@@ -104,6 +108,7 @@ public class BibEntryTypesManager {
     }
 
     public void addCustomOrModifiedType(BibEntryType entryType, BibDatabaseMode mode) {
+        modificationCount.incrementAndGet();
         if (BibDatabaseMode.BIBLATEX == mode) {
             BIBLATEX.addCustomOrModifiedType(entryType);
         } else if (BibDatabaseMode.BIBTEX == mode) {
@@ -112,6 +117,7 @@ public class BibEntryTypesManager {
     }
 
     public void removeCustomOrModifiedEntryType(BibEntryType entryType, BibDatabaseMode mode) {
+        modificationCount.incrementAndGet();
         if (BibDatabaseMode.BIBLATEX == mode) {
             BIBLATEX.removeCustomOrModifiedEntryType(entryType);
         } else if (BibDatabaseMode.BIBTEX == mode) {
@@ -120,6 +126,7 @@ public class BibEntryTypesManager {
     }
 
     public void clearAllCustomEntryTypes(BibDatabaseMode mode) {
+        modificationCount.incrementAndGet();
         if (BibDatabaseMode.BIBLATEX == mode) {
             BIBLATEX.clearAllCustomEntryTypes();
         } else if (BibDatabaseMode.BIBTEX == mode) {
@@ -127,6 +134,13 @@ public class BibEntryTypesManager {
         }
     }
 
+    /**
+     * Returns the number of changes to the custom entry types so far
+     */
+    public long getModificationCount() {
+        return modificationCount.get();
+    }
+
     public Collection<BibEntryType> getAllTypes(BibDatabaseMode type) {
         return type == BibDatabaseMode.BIBLATEX ? BIBLATEX.getAllTypes() : BIBTEX.getAllTypes();
     }
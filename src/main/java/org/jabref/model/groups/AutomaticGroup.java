@@ -1,11 +1,23 @@
 package org.jabref.model.groups;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
-import org.jabref.model.util.TreeCollector;
+
+import com.google.common.collect.Comparators;
 
 public abstract class AutomaticGroup extends AbstractGroup {
     public AutomaticGroup(String name, GroupHierarchyType context) {
@@ -22,12 +34,108 @@ public abstract class AutomaticGroup extends AbstractGroup {
         return false;
     }
 
-    public abstract Set<GroupTreeNode> createSubgroups(BibEntry entry);
+    /**
+     * Creates the subgroups containing the given entry. Each subgroup is returned together with the subgroups on its
+     * path, starting at the first one.
+     */
+    public Set<GroupTreeNode> createSubgroups(BibEntry entry) {
+        return getSubgroupPaths(entry).map(this::createSubgroupChain)
+                                      .collect(Collectors.toSet());
+    }
+
+    private GroupTreeNode createSubgroupChain(List<String> path) {
+        GroupTreeNode root = new GroupTreeNode(createSubgroup(path.subList(0, 1)));
+        GroupTreeNode node = root;
+        for (int length = 2; length <= path.size(); length++) {
+            GroupTreeNode child = new GroupTreeNode(createSubgroup(path.subList(0, length)));
+            node.addChild(child);
+            node = child;
+        }
+        return root;
+    }
+
+    /**
+     * Returns the paths of the subgroups directly containing the given entry, e.g., ["A", "B"] for the keyword "A > B".
+     * The entry is also part of the subgroups on the path to these subgroups, but it is not contained by them.
+     */
+    protected abstract Stream<List<String>> getSubgroupPaths(BibEntry entry);
+
+    /**
+     * Creates the subgroup at the given path
+     */
+    protected abstract AbstractGroup createSubgroup(List<String> path);
+
+    /**
+     * Returns whether the subgroups contain exactly the entries whose {@link #getSubgroupPaths(BibEntry) paths} end at
+     * them, so that the entries do not have to be checked by the subgroups again.
+     */
+    protected boolean subgroupsContainEntriesOfTheirPath() {
+        return true;
+    }
 
     public ObservableList<GroupTreeNode> createSubgroups(ObservableList<BibEntry> entries) {
         // TODO: Propagate changes to entry list (however: there is no flatMap and collect as TransformationList)
-        return entries.stream()
-                      .flatMap(entry -> createSubgroups(entry).stream())
-                      .collect(TreeCollector.mergeIntoTree(GroupTreeNode::isSameGroupAs));
+        return createSubgroupTree(groupByPath(entries)).roots();
+    }
+
+    /**
+     * Creates the subgroups of all entries of the given database. The entries contained in the subgroups are passed to
+     * the {@link GroupMembershipIndex} of the database, which keeps them up to date when the entries change.
+     */
+    public ObservableList<GroupTreeNode> createSubgroups(BibDatabase database) {
+        GroupMembershipIndex index = GroupMembershipIndex.of(database);
+        // The entries are grouped without holding the lock of the index, the index checks the entries changed in between
+        GroupMembershipIndex.EntriesSnapshot snapshot = index.getEntriesSnapshot();
+        Map<List<String>, List<BibEntry>> entriesByPath = groupByPath(snapshot.entries());
+        SubgroupTree tree = createSubgroupTree(entriesByPath);
+        if (subgroupsContainEntriesOfTheirPath()) {
+            Map<AbstractGroup, List<BibEntry>> entriesByGroup = new IdentityHashMap<>();
+            tree.groupsByPath().forEach((path, group) -> entriesByGroup.put(group, entriesByPath.getOrDefault(path, Collections.emptyList())));
+            index.putMatches(entriesByGroup, snapshot);
+        }
+        return tree.roots();
+    }
+
+    /**
+     * Determines the entries of each subgroup in a single pass over all entries
+     */
+    private Map<List<String>, List<BibEntry>> groupByPath(List<BibEntry> entries) {
+        return new ArrayList<>(entries)
+                .parallelStream()
+                .flatMap(entry -> getSubgroupPaths(entry).distinct().map(path -> Map.entry(path, entry)))
+                .collect(Collectors.groupingByConcurrent(Map.Entry::getKey, Collectors.mapping(Map.Entry::getValue, Collectors.toList())));
+    }
+
+    /**
+     * Creates one subgroup for each path and each prefix of a path. The subgroups are sorted by their path.
+     */
+    private SubgroupTree createSubgroupTree(Map<List<String>, List<BibEntry>> entriesByPath) {
+        List<List<String>> paths = new ArrayList<>(entriesByPath.keySet());
+        paths.sort(Comparators.lexicographical(Comparator.<String>naturalOrder()));
+
+        Map<List<String>, AbstractGroup> groupsByPath = new HashMap<>();
+        Map<List<String>, GroupTreeNode> nodesByPath = new HashMap<>();
+        ObservableList<GroupTreeNode> roots = FXCollections.observableArrayList();
+        for (List<String> path : paths) {
+            for (int length = 1; length <= path.size(); length++) {
+                List<String> prefix = List.copyOf(path.subList(0, length));
+                if (nodesByPath.containsKey(prefix)) {
+                    continue;
+                }
+                AbstractGroup group = createSubgroup(prefix);
+                GroupTreeNode node = new GroupTreeNode(group);
+                groupsByPath.put(prefix, group);
+                nodesByPath.put(prefix, node);
+                if (length == 1) {
+                    roots.add(node);
+                } else {
+                    nodesByPath.get(prefix.subList(0, length - 1)).addChild(node);
+                }
+            }
+        }
+        return new SubgroupTree(roots, groupsByPath);
+    }
+
+    private record SubgroupTree(ObservableList<GroupTreeNode> roots, Map<List<String>, AbstractGroup> groupsByPath) {
     }
 }
@@ -1,12 +1,13 @@
 package org.jabref.model.groups;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.Keyword;
-import org.jabref.model.entry.KeywordList;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.strings.StringUtil;
 
@@ -59,27 +60,41 @@ public class AutomaticKeywordGroup extends AutomaticGroup {
     }
 
     @Override
-    public Set<GroupTreeNode> createSubgroups(BibEntry entry) {
-        KeywordList keywordList = entry.getFieldAsKeywords(field, keywordDelimiter);
-        return keywordList.stream()
-                          .filter(keyword -> StringUtil.isNotBlank(keyword.get()))
-                          .map(this::createGroup)
-                          .collect(Collectors.toSet());
+    protected Stream<List<String>> getSubgroupPaths(BibEntry entry) {
+        return entry.getFieldAsKeywords(field, keywordDelimiter)
+                    .stream()
+                    .filter(keyword -> StringUtil.isNotBlank(keyword.get()))
+                    .map(AutomaticKeywordGroup::getPath);
     }
 
-    private GroupTreeNode createGroup(Keyword keywordChain) {
-        WordKeywordGroup rootGroup = new WordKeywordGroup(
-                keywordChain.get(),
+    private static List<String> getPath(Keyword keywordChain) {
+        List<String> path = new ArrayList<>();
+        Optional<Keyword> keyword = Optional.of(keywordChain);
+        while (keyword.isPresent()) {
+            path.add(keyword.get().get());
+            keyword = keyword.get().getChild();
+        }
+        return List.copyOf(path);
+    }
+
+    @Override
+    protected AbstractGroup createSubgroup(List<String> path) {
+        return new WordKeywordGroup(
+                path.get(path.size() - 1),
                 GroupHierarchyType.INCLUDING,
                 field,
-                keywordChain.getPathFromRootAsString(keywordHierarchicalDelimiter),
+                String.join(" " + keywordHierarchicalDelimiter + " ", path),
                 true,
                 keywordDelimiter,
                 true);
-        GroupTreeNode root = new GroupTreeNode(rootGroup);
-        keywordChain.getChild()
-                    .map(this::createGroup)
-                    .ifPresent(root::addChild);
-        return root;
+    }
+
+    /**
+     * The subgroups parse their keyword chain using the default hierarchical delimiter. With another delimiter, they
+     * have to check the entries themselves.
+     */
+    @Override
+    protected boolean subgroupsContainEntriesOfTheirPath() {
+        return Keyword.DEFAULT_HIERARCHICAL_DELIMITER.equals(keywordHierarchicalDelimiter);
     }
 }
@@ -1,8 +1,8 @@
 package org.jabref.model.groups;
 
+import java.util.List;
 import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.Field;
@@ -39,12 +39,16 @@ public class AutomaticPersonsGroup extends AutomaticGroup {
     }
 
     @Override
-    public Set<GroupTreeNode> createSubgroups(BibEntry entry) {
+    protected Stream<List<String>> getSubgroupPaths(BibEntry entry) {
         return LastNameGroup.getAsLastNamesLatexFree(field, entry)
                             .stream()
-                            .map(lastName -> new LastNameGroup(lastName, GroupHierarchyType.INDEPENDENT, field, lastName))
-                            .map(GroupTreeNode::new)
-                            .collect(Collectors.toSet());
+                            .map(List::of);
+    }
+
+    @Override
+    protected AbstractGroup createSubgroup(List<String> path) {
+        String lastName = path.get(0);
+        return new LastNameGroup(lastName, GroupHierarchyType.INDEPENDENT, field, lastName);
     }
 
     public Field getField() {
@@ -0,0 +1,526 @@
+package org.jabref.model.groups;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.InternalField;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.MapMaker;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Keeps track of the entries of a database matched by its groups, so that the entries of a group do not have to be
+ * determined by checking all entries again and again.
+ * <p>
+ * Each entry of the database gets a slot, and each group a bit set of the slots of the entries it contains (see
+ * {@link AbstractGroup#contains(BibEntry)}). The bit set of a group is computed when it is first needed. Afterwards, it
+ * is updated whenever entries are added or removed, and whenever an entry changes in a field the group depends on.
+ * The matches of a group tree node taking the hierarchical context into account (see
+ * {@link GroupTreeNode#getSearchMatcher()}) are put together from the bit sets of the groups.
+ * <p>
+ * Groups are compared by identity: a group which is replaced by an edited copy gets a new bit set. Groups depending on
+ * data outside the database (e.g., {@link TexGroup}) have to be {@link #invalidate(AbstractGroup) invalidated} when
+ * this data changes.
+ */
+public class GroupMembershipIndex {
+
+    // The database is not referenced by its index, so that both can be garbage collected once the database is closed
+    private static final LoadingCache<BibDatabase, GroupMembershipIndex> INDEXES = CacheBuilder.newBuilder()
+                                                                                               .weakKeys()
+                                                                                               .build(CacheLoader.from(GroupMembershipIndex::new));
+
+    private final WeakReference<BibDatabase> database;
+
+    private final Map<BibEntry, Integer> slots = new IdentityHashMap<>();
+    private final List<BibEntry> entriesBySlot = new ArrayList<>();
+    private final BitSet freeSlots = new BitSet();
+
+    /**
+     * Every change of the entries increments the change count and stamps the changed slot with it, so that the bit set
+     * of a group computed outside the lock can be brought up to date
+     */
+    private long changeCount = 0;
+    private final List<Long> slotChanges = new ArrayList<>();
+
+    /**
+     * The {@link BibDatabase#getModificationCount(BibEntry) modification count} of the entry in each slot when it was
+     * checked last. The database is modified before the index learns about the change, so a smaller count than the
+     * current one of the database means that the matches of the entry are outdated.
+     */
+    private final List<Long> slotModifications = new ArrayList<>();
+
+    // Identity map with weak keys, as groups are dropped when the group tree changes
+    private final Map<AbstractGroup, BitSet> matchesByGroup = new MapMaker().weakKeys().makeMap();
+
+    // Listeners are referenced weakly, as the view models listening are created and dropped with the group tree
+    private final Map<Runnable, GroupTreeNode> listeners = new WeakHashMap<>();
+
+    private GroupMembershipIndex(BibDatabase database) {
+        this.database = new WeakReference<>(database);
+        database.trackModifications();
+        synchronized (database) {
+            database.getEntries().forEach(entry -> addEntry(entry, newGroupSet()));
+            database.registerListener(this);
+        }
+    }
+
+    /**
+     * Returns the index of the given database. All callers share the same index.
+     */
+    public static GroupMembershipIndex of(BibDatabase database) {
+        return INDEXES.getUnchecked(database);
+    }
+
+    /**
+     * Registers a listener which is called after the matches of the given node may have changed, i.e., after the
+     * matches of one of the groups they are put together from changed. The listener is called on the thread changing
+     * the database. It is only referenced weakly, so the caller has to keep a reference to it.
+     */
+    public synchronized void addListener(GroupTreeNode node, Runnable listener) {
+        listeners.put(listener, node);
+    }
+
+    public synchronized void removeListener(Runnable listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Returns the number of entries matched by the given node, taking the hierarchical context into account
+     */
+    public int getNumberOfMatches(GroupTreeNode node) {
+        indexGroups(List.of(node));
+        synchronized (this) {
+            return getMatches(node, node.getGroup().getHierarchicalContext()).cardinality();
+        }
+    }
+
+    /**
+     * Returns the entries matched by the given node, taking the hierarchical context into account. The entries are
+     * not ordered.
+     */
+    public List<BibEntry> findMatches(GroupTreeNode node) {
+        indexGroups(List.of(node));
+        synchronized (this) {
+            return toEntries(getMatches(node, node.getGroup().getHierarchicalContext()));
+        }
+    }
+
+    /**
+     * Returns the entries matched by all (if requireAll is true) or by any of the given nodes, taking the hierarchical
+     * context into account. The entries are not ordered.
+     */
+    public List<BibEntry> findMatches(List<GroupTreeNode> nodes, boolean requireAll) {
+        indexGroups(nodes);
+        synchronized (this) {
+            BitSet matches = null;
+            for (GroupTreeNode node : nodes) {
+                BitSet matchesOfNode = getMatches(node, node.getGroup().getHierarchicalContext());
+                if (matches == null) {
+                    matches = matchesOfNode;
+                } else if (requireAll) {
+                    matches.and(matchesOfNode);
+                } else {
+                    matches.or(matchesOfNode);
+                }
+            }
+            return matches == null ? List.of() : toEntries(matches);
+        }
+    }
+
+    /**
+     * Returns all nodes in the subtree starting at the given node which match the given entry, just like
+     * {@link GroupTreeNode#getMatchingGroups(BibEntry)}. The entry is checked against the groups directly if it is not
+     * part of the database, if it changed but the index did not learn about the change yet, or if not all groups are
+     * indexed yet. Thus, no group is indexed by this method.
+     */
+    public List<GroupTreeNode> getMatchingGroups(GroupTreeNode node, BibEntry entry) {
+        synchronized (this) {
+            Integer slot = slots.get(entry);
+            if ((slot != null) && (slotModifications.get(slot) >= getModificationCount(entry))
+                    && matchesByGroup.keySet().containsAll(getRequiredGroupsOfSubtree(node))) {
+                List<GroupTreeNode> groups = new ArrayList<>();
+                collectMatchingGroups(node, slot, groups);
+                return groups;
+            }
+        }
+        return node.getMatchingGroups(entry);
+    }
+
+    private void collectMatchingGroups(GroupTreeNode node, int slot, List<GroupTreeNode> groups) {
+        if (isMatch(node, slot, node.getGroup().getHierarchicalContext())) {
+            groups.add(node);
+        }
+        for (GroupTreeNode child : node.getChildren()) {
+            collectMatchingGroups(child, slot, groups);
+        }
+    }
+
+    /**
+     * Drops the matches of the given group, so that they are determined again when they are needed next time
+     */
+    public void invalidate(AbstractGroup group) {
+        synchronized (this) {
+            matchesByGroup.remove(group);
+        }
+        Set<AbstractGroup> changedGroups = newGroupSet();
+        changedGroups.add(group);
+        notifyListeners(changedGroups);
+    }
+
+    /**
+     * Returns the entries of the database known to the index, for determining the entries of groups without holding the
+     * lock of the index (see {@link #putMatches(Map, EntriesSnapshot)})
+     */
+    synchronized EntriesSnapshot getEntriesSnapshot() {
+        List<BibEntry> entries = new ArrayList<>(slots.size());
+        for (BibEntry entry : entriesBySlot) {
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        return new EntriesSnapshot(entries, changeCount);
+    }
+
+    /**
+     * Sets the entries contained in the given groups, which are then kept up to date like the matches determined by
+     * the index itself. The entries have to be determined from the given snapshot. Entries which changed since the
+     * snapshot was taken are checked against the groups again, and entries not part of the database are ignored.
+     */
+    synchronized void putMatches(Map<? extends AbstractGroup, ? extends Collection<BibEntry>> entriesByGroup, EntriesSnapshot snapshot) {
+        for (Map.Entry<? extends AbstractGroup, ? extends Collection<BibEntry>> groupEntries : entriesByGroup.entrySet()) {
+            AbstractGroup group = groupEntries.getKey();
+            if (matchesByGroup.containsKey(group)) {
+                continue;
+            }
+            BitSet matches = new BitSet(entriesBySlot.size());
+            for (BibEntry entry : groupEntries.getValue()) {
+                Integer slot = slots.get(entry);
+                if (slot != null) {
+                    matches.set(slot);
+                }
+            }
+            checkChangedEntries(group, matches, snapshot.changeCount());
+            matchesByGroup.put(group, matches);
+        }
+    }
+
+    /**
+     * Checks the entries changed after the given change count against the given group again
+     */
+    private void checkChangedEntries(AbstractGroup group, BitSet matches, long changesBefore) {
+        for (int slot = 0; slot < entriesBySlot.size(); slot++) {
+            if (slotChanges.get(slot) > changesBefore) {
+                BibEntry entry = entriesBySlot.get(slot);
+                matches.set(slot, (entry != null) && group.contains(entry));
+            }
+        }
+    }
+
+    /**
+     * Computes the bit sets of the groups needed for the given nodes which are not indexed yet. Checking all entries
+     * against a group may take long (e.g., for a search group), so it is done without holding the lock. Afterwards,
+     * the entries which changed in the meantime are checked again.
+     */
+    private void indexGroups(List<GroupTreeNode> nodes) {
+        List<AbstractGroup> missingGroups = new ArrayList<>();
+        List<BibEntry> entries;
+        long changesBefore;
+        synchronized (this) {
+            Set<AbstractGroup> requiredGroups = newGroupSet();
+            for (GroupTreeNode node : nodes) {
+                collectRequiredGroups(node, node.getGroup().getHierarchicalContext(), requiredGroups);
+            }
+            for (AbstractGroup group : requiredGroups) {
+                if (!matchesByGroup.containsKey(group)) {
+                    missingGroups.add(group);
+                }
+            }
+            if (missingGroups.isEmpty()) {
+                return;
+            }
+            entries = new ArrayList<>(entriesBySlot);
+            changesBefore = changeCount;
+        }
+
+        Map<AbstractGroup, BitSet> computedMatches = new LinkedHashMap<>();
+        for (AbstractGroup group : missingGroups) {
+            BitSet matches = new BitSet(entries.size());
+            for (int slot = 0; slot < entries.size(); slot++) {
+                BibEntry entry = entries.get(slot);
+                if ((entry != null) && group.contains(entry)) {
+                    matches.set(slot);
+                }
+            }
+            computedMatches.put(group, matches);
+        }
+
+        synchronized (this) {
+            for (Map.Entry<AbstractGroup, BitSet> groupMatches : computedMatches.entrySet()) {
+                AbstractGroup group = groupMatches.getKey();
+                if (matchesByGroup.containsKey(group)) {
+                    continue;
+                }
+                BitSet matches = groupMatches.getValue();
+                checkChangedEntries(group, matches, changesBefore);
+                matchesByGroup.put(group, matches);
+            }
+        }
+    }
+
+    /**
+     * Collects the groups needed to determine the matches of the given node, mirroring {@link #getMatches(GroupTreeNode, GroupHierarchyType)}
+     */
+    private void collectRequiredGroups(GroupTreeNode node, GroupHierarchyType originalContext, Set<AbstractGroup> groups) {
+        AbstractGroup group = node.getGroup();
+        groups.add(group);
+        GroupHierarchyType context = group.getHierarchicalContext();
+        if ((context == GroupHierarchyType.INCLUDING) && (originalContext != GroupHierarchyType.REFINING)) {
+            for (GroupTreeNode child : node.getChildren()) {
+                collectRequiredGroups(child, originalContext, groups);
+            }
+        } else if ((context == GroupHierarchyType.REFINING) && !node.isRoot() && (originalContext != GroupHierarchyType.INCLUDING)) {
+            // noinspection OptionalGetWithoutIsPresent
+            collectRequiredGroups(node.getParent().get(), originalContext, groups);
+        }
+    }
+
+    private Set<AbstractGroup> getRequiredGroupsOfSubtree(GroupTreeNode root) {
+        Set<AbstractGroup> groups = newGroupSet();
+        for (GroupTreeNode node : root.getChildren()) {
+            groups.addAll(getRequiredGroupsOfSubtree(node));
+        }
+        collectRequiredGroups(root, root.getGroup().getHierarchicalContext(), groups);
+        return groups;
+    }
+
+    /**
+     * Mirrors {@link GroupTreeNode#getSearchMatcher()}
+     */
+    private BitSet getMatches(GroupTreeNode node, GroupHierarchyType originalContext) {
+        AbstractGroup group = node.getGroup();
+        BitSet matches = (BitSet) getGroupMatches(group).clone();
+        GroupHierarchyType context = group.getHierarchicalContext();
+        if ((context == GroupHierarchyType.INCLUDING) && (originalContext != GroupHierarchyType.REFINING)) {
+            for (GroupTreeNode child : node.getChildren()) {
+                matches.or(getMatches(child, originalContext));
+            }
+        } else if ((context == GroupHierarchyType.REFINING) && !node.isRoot() && (originalContext != GroupHierarchyType.INCLUDING)) {
+            // noinspection OptionalGetWithoutIsPresent
+            matches.and(getMatches(node.getParent().get(), originalContext));
+        }
+        return matches;
+    }
+
+    /**
+     * Mirrors {@link GroupTreeNode#getSearchMatcher()} for a single entry
+     */
+    private boolean isMatch(GroupTreeNode node, int slot, GroupHierarchyType originalContext) {
+        AbstractGroup group = node.getGroup();
+        boolean matches = getGroupMatches(group).get(slot);
+        GroupHierarchyType context = group.getHierarchicalContext();
+        if ((context == GroupHierarchyType.INCLUDING) && (originalContext != GroupHierarchyType.REFINING)) {
+            for (GroupTreeNode child : node.getChildren()) {
+                matches = matches || isMatch(child, slot, originalContext);
+            }
+        } else if ((context == GroupHierarchyType.REFINING) && !node.isRoot() && (originalContext != GroupHierarchyType.INCLUDING)) {
+            // noinspection OptionalGetWithoutIsPresent
+            matches = matches && isMatch(node.getParent().get(), slot, originalContext);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the bit set of the given group. Groups are usually indexed by {@link #indexGroups(List)} before, so the
+     * entries are only checked here if the group was invalidated in between.
+     */
+    private BitSet getGroupMatches(AbstractGroup group) {
+        return matchesByGroup.computeIfAbsent(group, key -> {
+            BitSet matches = new BitSet(entriesBySlot.size());
+            for (int slot = 0; slot < entriesBySlot.size(); slot++) {
+                BibEntry entry = entriesBySlot.get(slot);
+                if ((entry != null) && group.contains(entry)) {
+                    matches.set(slot);
+                }
+            }
+            return matches;
+        });
+    }
+
+    private List<BibEntry> toEntries(BitSet matches) {
+        List<BibEntry> entries = new ArrayList<>(matches.cardinality());
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            entries.add(entriesBySlot.get(slot));
+        }
+        return entries;
+    }
+
+    private long getModificationCount(BibEntry entry) {
+        BibDatabase bibDatabase = database.get();
+        return (bibDatabase == null) ? 0 : bibDatabase.getModificationCount(entry);
+    }
+
+    private void stampSlot(int slot, BibEntry entry) {
+        slotChanges.set(slot, ++changeCount);
+        slotModifications.set(slot, (entry == null) ? 0 : getModificationCount(entry));
+    }
+
+    /**
+     * Adds the given entry and collects the groups containing it in the given set
+     */
+    private void addEntry(BibEntry entry, Set<AbstractGroup> changedGroups) {
+        if (slots.containsKey(entry)) {
+            return;
+        }
+        int slot = freeSlots.nextSetBit(0);
+        if (slot < 0) {
+            slot = entriesBySlot.size();
+            entriesBySlot.add(entry);
+            slotChanges.add(0L);
+            slotModifications.add(0L);
+        } else {
+            freeSlots.clear(slot);
+            entriesBySlot.set(slot, entry);
+        }
+        slots.put(entry, slot);
+        stampSlot(slot, entry);
+        for (Map.Entry<AbstractGroup, BitSet> groupMatches : matchesByGroup.entrySet()) {
+            if (groupMatches.getKey().contains(entry)) {
+                groupMatches.getValue().set(slot);
+                changedGroups.add(groupMatches.getKey());
+            } else {
+                groupMatches.getValue().clear(slot);
+            }
+        }
+    }
+
+    private void removeEntry(BibEntry entry, Set<AbstractGroup> changedGroups) {
+        Integer slot = slots.remove(entry);
+        if (slot == null) {
+            return;
+        }
+        entriesBySlot.set(slot, null);
+        freeSlots.set(slot);
+        stampSlot(slot, null);
+        for (Map.Entry<AbstractGroup, BitSet> groupMatches : matchesByGroup.entrySet()) {
+            if (groupMatches.getValue().get(slot)) {
+                groupMatches.getValue().clear(slot);
+                changedGroups.add(groupMatches.getKey());
+            }
+        }
+    }
+
+    /**
+     * Checks the given entry again against the groups depending on the given field (all groups if the field is null)
+     * and collects the groups whose matches changed in the given set
+     */
+    private void updateEntry(BibEntry entry, Field field, Set<AbstractGroup> changedGroups) {
+        Integer slot = slots.get(entry);
+        if (slot == null) {
+            return;
+        }
+        // Stamped before the entry is checked, so that a concurrent change is considered as not checked yet
+        stampSlot(slot, entry);
+        for (Map.Entry<AbstractGroup, BitSet> groupMatches : matchesByGroup.entrySet()) {
+            AbstractGroup group = groupMatches.getKey();
+            if ((field == null) || dependsOn(group, field)) {
+                boolean contains = group.contains(entry);
+                if (groupMatches.getValue().get(slot) != contains) {
+                    groupMatches.getValue().set(slot, contains);
+                    changedGroups.add(group);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns whether the entries contained in the given group may change if the given field changes
+     */
+    private static boolean dependsOn(AbstractGroup group, Field field) {
+        if (group instanceof KeywordGroup keywordGroup) {
+            return keywordGroup.getSearchField().equals(field);
+        } else if (group instanceof TexGroup) {
+            return InternalField.KEY_FIELD.equals(field);
+        } else if ((group instanceof AllEntriesGroup) || (group instanceof AutomaticGroup)) {
+            return false;
+        }
+        // Other groups (e.g., search groups) may depend on any field
+        return true;
+    }
+
+    /**
+     * Notifies the listeners of the nodes whose matches are put together from the matches of one of the given groups
+     */
+    private void notifyListeners(Set<AbstractGroup> changedGroups) {
+        if (changedGroups.isEmpty()) {
+            return;
+        }
+        Map<Runnable, GroupTreeNode> listenersToNotify;
+        synchronized (this) {
+            listenersToNotify = new IdentityHashMap<>(listeners);
+        }
+        listenersToNotify.forEach((listener, node) -> {
+            Set<AbstractGroup> requiredGroups = newGroupSet();
+            collectRequiredGroups(node, node.getGroup().getHierarchicalContext(), requiredGroups);
+            if (requiredGroups.stream().anyMatch(changedGroups::contains)) {
+                listener.run();
+            }
+        });
+    }
+
+    private static Set<AbstractGroup> newGroupSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    @Subscribe
+    public void listen(EntriesAddedEvent event) {
+        Set<AbstractGroup> changedGroups = newGroupSet();
+        synchronized (this) {
+            event.getBibEntries().forEach(entry -> addEntry(entry, changedGroups));
+        }
+        notifyListeners(changedGroups);
+    }
+
+    @Subscribe
+    public void listen(EntriesRemovedEvent event) {
+        Set<AbstractGroup> changedGroups = newGroupSet();
+        synchronized (this) {
+            event.getBibEntries().forEach(entry -> removeEntry(entry, changedGroups));
+        }
+        notifyListeners(changedGroups);
+    }
+
+    @Subscribe
+    public void listen(EntryChangedEvent event) {
+        Set<AbstractGroup> changedGroups = newGroupSet();
+        synchronized (this) {
+            Field field = (event instanceof FieldChangedEvent fieldChangedEvent) ? fieldChangedEvent.getField() : null;
+            updateEntry(event.getBibEntry(), field, changedGroups);
+        }
+        notifyListeners(changedGroups);
+    }
+
+    /**
+     * The entries of the database and the change count of the index when they were taken
+     */
+    record EntriesSnapshot(List<BibEntry> entries, long changeCount) {
+    }
+}
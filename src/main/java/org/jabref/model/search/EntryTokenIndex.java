@@ -0,0 +1,313 @@
+package org.jabref.model.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * In-memory inverted index from the tokens of the (latex-free, lower-cased) field values of all entries of a database
+ * to the IDs of the entries containing them. A token is a maximal run of non-whitespace characters. The index is kept
+ * up to date by listening to the entry and field change events of the database.
+ * <p>
+ * A search word without whitespace can only occur inside a single token. Thus, the entries having a token which
+ * contains the word are a superset of the entries having a field which contains the word. Search rules use this to
+ * check only these candidates instead of all entries. The tokens containing a word are looked up through the n-grams of
+ * the tokens, so that not every token has to be checked.
+ * <p>
+ * The index gives up as soon as it holds more than {@link #MAX_TOKENS} distinct tokens. It then frees its memory, stops
+ * listening to the database, and returns no candidates anymore, so that searches check all entries again.
+ */
+public class EntryTokenIndex {
+
+    // The maximal length of the n-grams the tokens are indexed by
+    private static final int GRAM_LENGTH = 3;
+
+    // The maximal number of distinct tokens, which bounds the memory used by the index
+    private static final int MAX_TOKENS = 500_000;
+
+    private final BibDatabase database;
+
+    private final Map<String, Set<String>> entriesByToken = new HashMap<>();
+    private final Map<String, Set<String>> tokensByEntry = new HashMap<>();
+    private final Map<String, Set<String>> tokensByGram = new HashMap<>();
+
+    /**
+     * Every indexing of an entry increments the version and stamps the entry with it, so that a candidate set can tell
+     * whether an entry was indexed again after the set was computed.
+     */
+    private volatile long version = 0;
+    private final Map<String, Long> entryVersions = new ConcurrentHashMap<>();
+
+    /**
+     * The {@link BibDatabase#getModificationCount(BibEntry) modification count} of each entry when it was indexed. The
+     * database is modified before the index learns about the change, so a smaller count than the current one of the
+     * database means that the tokens of the entry are outdated.
+     */
+    private final Map<String, Long> indexedModifications = new ConcurrentHashMap<>();
+
+    private volatile boolean stopped = false;
+
+    public EntryTokenIndex(BibDatabase database) {
+        this.database = database;
+        database.trackModifications();
+        synchronized (this) {
+            database.registerListener(this);
+            for (BibEntry entry : List.copyOf(database.getEntries())) {
+                indexEntry(entry);
+            }
+        }
+    }
+
+    /**
+     * Normalizes the given text the same way the field values are normalized before they are split into tokens.
+     * Characters are mapped one by one, so that a substring of the original text is also a substring of the normalized
+     * text.
+     */
+    public static String normalize(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
+    private static List<String> tokenize(String normalizedText) {
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i < normalizedText.length(); i++) {
+            if (Character.isWhitespace(normalizedText.charAt(i))) {
+                if (start >= 0) {
+                    tokens.add(normalizedText.substring(start, i));
+                    start = -1;
+                }
+            } else if (start < 0) {
+                start = i;
+            }
+        }
+        if (start >= 0) {
+            tokens.add(normalizedText.substring(start));
+        }
+        return tokens;
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent event) {
+        for (BibEntry entry : event.getBibEntries()) {
+            indexEntry(entry);
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        for (BibEntry entry : event.getBibEntries()) {
+            removeEntry(entry.getId());
+            entryVersions.remove(entry.getId());
+            indexedModifications.remove(entry.getId());
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent event) {
+        indexEntry(event.getBibEntry());
+    }
+
+    /**
+     * Returns the candidates for a field containing the given text.
+     *
+     * @param text the text to search for, may contain whitespace
+     * @return the IDs of all entries which may have a field containing the text, or an empty optional if the text does
+     * not restrict the candidates (e.g., it is blank)
+     */
+    public synchronized Optional<Candidates> getCandidates(String text) {
+        if (stopped) {
+            return Optional.empty();
+        }
+        List<String> parts = tokenize(normalize(text));
+        if (parts.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Set<String> result = null;
+        for (String part : parts) {
+            Set<String> entriesWithPart = new HashSet<>();
+            for (String token : getTokensContaining(part)) {
+                entriesWithPart.addAll(entriesByToken.get(token));
+            }
+            if (result == null) {
+                result = entriesWithPart;
+            } else {
+                result.retainAll(entriesWithPart);
+            }
+        }
+        return Optional.of(new Candidates(result, version));
+    }
+
+    /**
+     * Returns whether the index gave up or was shut down, i.e., whether it does not return candidates anymore
+     */
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    /**
+     * Stops listening to the changes of the database and frees the memory of the index
+     */
+    public synchronized void shutdown() {
+        if (stopped) {
+            return;
+        }
+        stopped = true;
+        database.unregisterListener(this);
+        entriesByToken.clear();
+        tokensByEntry.clear();
+        tokensByGram.clear();
+        entryVersions.clear();
+        indexedModifications.clear();
+    }
+
+    /**
+     * Returns whether the tokens of the entry are outdated or changed since the given version
+     */
+    private boolean isChangedSince(BibEntry entry, long candidatesVersion) {
+        // Candidates computed before the index stopped cannot tell anymore
+        return stopped
+                || (entryVersions.getOrDefault(entry.getId(), 0L) > candidatesVersion)
+                || (indexedModifications.getOrDefault(entry.getId(), 0L) < database.getModificationCount(entry));
+    }
+
+    /**
+     * Returns the tokens containing the given part. If the part is longer than the n-grams, only the tokens of its
+     * rarest n-gram are checked.
+     */
+    private Set<String> getTokensContaining(String part) {
+        if (part.length() <= GRAM_LENGTH) {
+            return tokensByGram.getOrDefault(part, Set.of());
+        }
+        Set<String> rarestGramTokens = null;
+        for (int start = 0; start + GRAM_LENGTH <= part.length(); start++) {
+            Set<String> gramTokens = tokensByGram.getOrDefault(part.substring(start, start + GRAM_LENGTH), Set.of());
+            if ((rarestGramTokens == null) || (gramTokens.size() < rarestGramTokens.size())) {
+                rarestGramTokens = gramTokens;
+            }
+        }
+        Set<String> tokens = new HashSet<>();
+        for (String token : rarestGramTokens) {
+            if (token.contains(part)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns all substrings of the given token which are not longer than the n-grams
+     */
+    private static Set<String> getGrams(String token) {
+        Set<String> grams = new HashSet<>();
+        for (int start = 0; start < token.length(); start++) {
+            for (int end = start + 1; (end <= token.length()) && (end - start <= GRAM_LENGTH); end++) {
+                grams.add(token.substring(start, end));
+            }
+        }
+        return grams;
+    }
+
+    private void indexEntry(BibEntry entry) {
+        if (stopped) {
+            return;
+        }
+        removeEntry(entry.getId());
+        // Read before the fields, so that a concurrent change is considered as not indexed yet
+        long modification = database.getModificationCount(entry);
+
+        Set<String> tokens = new HashSet<>();
+        for (Field field : entry.getFields()) {
+            entry.getLatexFreeField(field).ifPresent(value -> tokens.addAll(tokenize(normalize(value))));
+        }
+        for (String token : tokens) {
+            entriesByToken.computeIfAbsent(token, key -> {
+                getGrams(key).forEach(gram -> tokensByGram.computeIfAbsent(gram, unused -> new HashSet<>()).add(key));
+                return new HashSet<>();
+            }).add(entry.getId());
+        }
+        tokensByEntry.put(entry.getId(), tokens);
+        indexedModifications.put(entry.getId(), modification);
+        entryVersions.put(entry.getId(), ++version);
+
+        if (entriesByToken.size() > MAX_TOKENS) {
+            shutdown();
+        }
+    }
+
+    private void removeEntry(String entryId) {
+        Set<String> tokens = tokensByEntry.remove(entryId);
+        if (tokens == null) {
+            return;
+        }
+        for (String token : tokens) {
+            Set<String> entries = entriesByToken.get(token);
+            entries.remove(entryId);
+            if (entries.isEmpty()) {
+                entriesByToken.remove(token);
+                for (String gram : getGrams(token)) {
+                    Set<String> gramTokens = tokensByGram.get(gram);
+                    gramTokens.remove(token);
+                    if (gramTokens.isEmpty()) {
+                        tokensByGram.remove(gram);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The entries which may match a search at the time the candidates were computed. Entries changed afterwards, or
+     * changed before but not indexed yet, are always considered as candidates.
+     */
+    public class Candidates {
+
+        private final Set<String> entryIds;
+        private final long version;
+
+        private Candidates(Set<String> entryIds, long version) {
+            this.entryIds = entryIds;
+            this.version = version;
+        }
+
+        public boolean contains(BibEntry entry) {
+            return entryIds.contains(entry.getId()) || isChangedSince(entry, version);
+        }
+
+        /**
+         * Returns the candidates which are candidates of both this and the other set
+         */
+        public Candidates intersect(Candidates other) {
+            Set<String> intersection = new HashSet<>(entryIds);
+            intersection.retainAll(other.entryIds);
+            return new Candidates(intersection, Math.min(version, other.version));
+        }
+
+        /**
+         * Returns the candidates which are candidates of this or the other set
+         */
+        public Candidates union(Candidates other) {
+            Set<String> union = new HashSet<>(entryIds);
+            union.addAll(other.entryIds);
+            return new Candidates(union, Math.min(version, other.version));
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.Vector;
 import java.util.stream.Collectors;
 
@@ -17,6 +18,7 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.pdf.search.PdfSearchResults;
 import org.jabref.model.pdf.search.SearchResult;
+import org.jabref.model.search.EntryTokenIndex;
 import org.jabref.model.search.rules.SearchRules.SearchFlags;
 
 import org.slf4j.Logger;
@@ -82,6 +84,29 @@ public class ContainBasedSearchRule implements SearchRule {
         return getFulltextResults(query, bibEntry).numSearchResults() > 0; // Didn't match all words.
     }
 
+    @Override
+    public Optional<EntryTokenIndex.Candidates> getCandidates(String query, EntryTokenIndex index) {
+        if (searchFlags.contains(SearchRules.SearchFlags.FULLTEXT)) {
+            // entries may match because of their linked files
+            return Optional.empty();
+        }
+        return getCandidatesForWords(new SentenceAnalyzer(query).getWords(), index);
+    }
+
+    /**
+     * Returns the candidates for entries in which every word is contained in some field
+     */
+    static Optional<EntryTokenIndex.Candidates> getCandidatesForWords(List<String> words, EntryTokenIndex index) {
+        Optional<EntryTokenIndex.Candidates> candidates = Optional.empty();
+        for (String word : words) {
+            Optional<EntryTokenIndex.Candidates> candidatesForWord = index.getCandidates(word);
+            if (candidatesForWord.isPresent()) {
+                candidates = Optional.of(candidates.map(candidatesForWord.get()::intersect).orElse(candidatesForWord.get()));
+            }
+        }
+        return candidates;
+    }
+
     @Override
     public PdfSearchResults getFulltextResults(String query, BibEntry bibEntry) {
 
@@ -22,6 +22,7 @@ import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.pdf.search.PdfSearchResults;
 import org.jabref.model.pdf.search.SearchResult;
+import org.jabref.model.search.EntryTokenIndex;
 import org.jabref.model.search.rules.SearchRules.SearchFlags;
 import org.jabref.search.SearchBaseVisitor;
 import org.jabref.search.SearchLexer;
@@ -127,6 +128,14 @@ public class GrammarBasedSearchRule implements SearchRule {
         return new PdfSearchResults(searchResults.stream().filter(searchResult -> searchResult.isResultFor(bibEntry)).collect(Collectors.toList()));
     }
 
+    @Override
+    public Optional<EntryTokenIndex.Candidates> getCandidates(String query, EntryTokenIndex index) {
+        if (searchFlags.contains(SearchFlags.REGULAR_EXPRESSION) || searchFlags.contains(SearchFlags.FULLTEXT) || !validateSearchStrings(query)) {
+            return Optional.empty();
+        }
+        return new CandidatesVisitor(index).visit(tree);
+    }
+
     @Override
     public boolean validateSearchStrings(String query) {
         try {
@@ -279,4 +288,69 @@ public class GrammarBasedSearchRule implements SearchRule {
             }
         }
     }
+
+    /**
+     * Determines the candidates of a search expression from the token index. A comparison which requires a field to
+     * contain a value restricts the candidates, negations and the other comparisons do not.
+     */
+    static class CandidatesVisitor extends SearchBaseVisitor<Optional<EntryTokenIndex.Candidates>> {
+
+        private final EntryTokenIndex index;
+
+        public CandidatesVisitor(EntryTokenIndex index) {
+            this.index = index;
+        }
+
+        @Override
+        public Optional<EntryTokenIndex.Candidates> visitStart(SearchParser.StartContext ctx) {
+            return visit(ctx.expression());
+        }
+
+        @Override
+        public Optional<EntryTokenIndex.Candidates> visitComparison(SearchParser.ComparisonContext context) {
+            String right = context.right.getText();
+            if (right.startsWith("\"") && right.endsWith("\"")) {
+                right = right.substring(1, right.length() - 1);
+            }
+
+            if (context.left == null) {
+                return ContainBasedSearchRule.getCandidatesForWords(new SentenceAnalyzer(right).getWords(), index);
+            }
+
+            String field = context.left.getText();
+            ComparisonOperator operator = ComparisonOperator.build(context.operator.getText());
+            if ((operator == ComparisonOperator.DOES_NOT_CONTAIN)
+                    || InternalField.TYPE_HEADER.getName().equalsIgnoreCase(field)
+                    || "anykeyword".equalsIgnoreCase(field)) {
+                return Optional.empty();
+            }
+            return index.getCandidates(right);
+        }
+
+        @Override
+        public Optional<EntryTokenIndex.Candidates> visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<EntryTokenIndex.Candidates> visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+            return visit(ctx.expression());
+        }
+
+        @Override
+        public Optional<EntryTokenIndex.Candidates> visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+            Optional<EntryTokenIndex.Candidates> left = visit(ctx.left);
+            Optional<EntryTokenIndex.Candidates> right = visit(ctx.right);
+            if ("AND".equalsIgnoreCase(ctx.operator.getText())) {
+                if (left.isEmpty()) {
+                    return right;
+                }
+                return Optional.of(right.map(left.get()::intersect).orElse(left.get()));
+            } else if (left.isPresent() && right.isPresent()) {
+                return Optional.of(left.get().union(right.get()));
+            } else {
+                return Optional.empty();
+            }
+        }
+    }
 }
@@ -1,7 +1,10 @@
 package org.jabref.model.search.rules;
 
+import java.util.Optional;
+
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.pdf.search.PdfSearchResults;
+import org.jabref.model.search.EntryTokenIndex;
 
 public interface SearchRule {
 
@@ -10,4 +13,13 @@ public interface SearchRule {
     PdfSearchResults getFulltextResults(String query, BibEntry bibEntry);
 
     boolean validateSearchStrings(String query);
+
+    /**
+     * Returns the entries which may match the query. All other entries are guaranteed not to match.
+     *
+     * @return the candidates, or an empty optional if every entry has to be checked with {@link #applyRule(String, BibEntry)}
+     */
+    default Optional<EntryTokenIndex.Candidates> getCandidates(String query, EntryTokenIndex index) {
+        return Optional.empty();
+    }
 }
@@ -6,10 +6,17 @@ import java.util.Optional;
 import java.util.regex.Pattern;
 
 import com.github.tomtung.latex2unicode.LaTeX2Unicode;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
 import fastparse.core.Parsed;
 
 /**
  * Adapter class for the latex2unicode lib. This is an alternative to our LatexToUnicode class
+ * <p>
+ * The conversions are cached application-wide, as the same values (e.g., journal names, publishers and authors) occur
+ * in many entries.
  */
 public class LatexToUnicodeAdapter {
 
@@ -19,6 +26,15 @@ public class LatexToUnicodeAdapter {
 
     private static final Pattern UNDERSCORE_PLACEHOLDER_MATCHER = Pattern.compile(REPLACEMENT_CHAR);
 
+    // The cache is bounded by the number of characters of the cached strings, as field values (e.g., abstracts) can be long
+    private static final long MAXIMUM_CACHED_CHARACTERS = 4_000_000;
+
+    private static final LoadingCache<String, Optional<String>> CONVERSIONS = CacheBuilder.newBuilder()
+                                                                                         .maximumWeight(MAXIMUM_CACHED_CHARACTERS)
+                                                                                         .<String, Optional<String>>weigher((inField, result) -> inField.length() + result.map(String::length).orElse(0))
+                                                                                         .recordStats()
+                                                                                         .build(CacheLoader.from(LatexToUnicodeAdapter::convert));
+
     /**
      * Attempts to resolve all LaTeX in the String.
      *
@@ -38,6 +54,21 @@ public class LatexToUnicodeAdapter {
      */
     public static Optional<String> parse(String inField) {
         Objects.requireNonNull(inField);
+        if (isPlainText(inField)) {
+            return Optional.of(Normalizer.normalize(inField, Normalizer.Form.NFC));
+        }
+        return CONVERSIONS.getUnchecked(inField);
+    }
+
+    /**
+     * Returns the hit and miss statistics of the cache of the conversions. Plain text, which is not parsed at all, is
+     * not counted.
+     */
+    public static CacheStats getCacheStats() {
+        return CONVERSIONS.stats();
+    }
+
+    private static Optional<String> convert(String inField) {
         String toFormat = UNDERSCORE_MATCHER.matcher(inField).replaceAll(REPLACEMENT_CHAR);
         var parsingResult = LaTeX2Unicode.parse(toFormat);
         if (parsingResult instanceof Parsed.Success) {
@@ -47,4 +78,28 @@ public class LatexToUnicodeAdapter {
         }
         return Optional.empty();
     }
+
+    /**
+     * Checks whether the given string is converted to itself. This is the case if it consists of letters, digits,
+     * single spaces between words and punctuation which has no meaning in LaTeX. Besides commands, groups and math,
+     * latex2unicode also converts dashes, quotes, ties, sub- and superscripts and sequences of whitespace.
+     */
+    private static boolean isPlainText(String inField) {
+        if (inField.isEmpty() || (inField.charAt(0) == ' ') || (inField.charAt(inField.length() - 1) == ' ')) {
+            return false;
+        }
+        char previous = 0;
+        for (int i = 0; i < inField.length(); i++) {
+            char c = inField.charAt(i);
+            boolean plain = Character.isLetterOrDigit(c)
+                    || ((c == ' ') && (previous != ' '))
+                    || ((c == '-') && (previous != '-'))
+                    || (".,;:()/!?+=@".indexOf(c) >= 0);
+            if (!plain) {
+                return false;
+            }
+            previous = c;
+        }
+        return true;
+    }
 }
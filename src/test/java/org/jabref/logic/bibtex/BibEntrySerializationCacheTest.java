@@ -0,0 +1,132 @@
+package org.jabref.logic.bibtex;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.logic.exporter.BibWriter;
+import org.jabref.logic.util.OS;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypeBuilder;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BibEntrySerializationCacheTest {
+
+    private final FieldWriterPreferences fieldWriterPreferences = new FieldWriterPreferences(true, List.of(StandardField.MONTH), new FieldContentFormatterPreferences());
+    private BibDatabase database;
+    private BibEntry entry;
+    private BibEntrySerializationCache cache;
+    private BibEntryTypesManager entryTypesManager;
+    private BibEntryWriter cachingWriter;
+
+    @BeforeEach
+    void setUp() {
+        entry = new BibEntry(StandardEntryType.Article)
+                .withCitationKey("key")
+                .withField(StandardField.AUTHOR, "Foo Bar")
+                .withField(StandardField.JOURNAL, "International Journal of Something")
+                .withField(StandardField.NOTE, "first line\r\nsecond line");
+        entry.setCommentsBeforeEntry("% some comment");
+        database = new BibDatabase(List.of(entry));
+        cache = new BibEntrySerializationCache(database);
+        cache.setFieldWriterPreferences(fieldWriterPreferences);
+        entryTypesManager = new BibEntryTypesManager();
+        cachingWriter = new BibEntryWriter(new FieldWriter(fieldWriterPreferences), entryTypesManager, Optional.of(cache));
+    }
+
+    private String write(BibEntryWriter writer) throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        BibWriter bibWriter = new BibWriter(stringWriter, OS.NEWLINE);
+        writer.write(entry, bibWriter, BibDatabaseMode.BIBTEX);
+        return stringWriter.toString();
+    }
+
+    @Test
+    void writingWithCacheYieldsSameSerializationAsWithoutCache() throws IOException {
+        String expected = write(new BibEntryWriter(new FieldWriter(fieldWriterPreferences), new BibEntryTypesManager()));
+
+        assertEquals(expected, write(cachingWriter));
+        assertEquals(expected, write(cachingWriter));
+    }
+
+    @Test
+    void serializationIsCachedAfterWriting() throws IOException {
+        write(cachingWriter);
+
+        assertTrue(cache.get(entry, BibDatabaseMode.BIBTEX).isPresent());
+        assertEquals(Optional.empty(), cache.get(entry, BibDatabaseMode.BIBLATEX));
+    }
+
+    @Test
+    void changedEntryIsWrittenAgain() throws IOException {
+        write(cachingWriter);
+
+        entry.setField(StandardField.NOTE, "another note");
+
+        assertEquals(Optional.empty(), cache.get(entry, BibDatabaseMode.BIBTEX));
+        assertTrue(write(cachingWriter).contains("another note"));
+    }
+
+    @Test
+    void removedEntryIsNotCached() throws IOException {
+        write(cachingWriter);
+
+        database.removeEntry(entry);
+
+        assertEquals(Optional.empty(), cache.get(entry, BibDatabaseMode.BIBTEX));
+    }
+
+    @Test
+    void changedPreferencesClearCache() throws IOException {
+        write(cachingWriter);
+
+        cache.setFieldWriterPreferences(new FieldWriterPreferences(false, List.of(), new FieldContentFormatterPreferences()));
+
+        assertEquals(Optional.empty(), cache.get(entry, BibDatabaseMode.BIBTEX));
+    }
+
+    @Test
+    void samePreferencesKeepCache() throws IOException {
+        write(cachingWriter);
+
+        cache.setFieldWriterPreferences(new FieldWriterPreferences(true, List.of(StandardField.MONTH), new FieldContentFormatterPreferences()));
+
+        assertTrue(cache.get(entry, BibDatabaseMode.BIBTEX).isPresent());
+    }
+
+    @Test
+    void serializationOfEntryChangedWhileSerializingIsNotCached() {
+        long modificationCount = cache.getModificationCount();
+
+        entry.setField(StandardField.NOTE, "another note");
+        cache.put(entry, BibDatabaseMode.BIBTEX, "outdated serialization", modificationCount);
+
+        assertEquals(Optional.empty(), cache.get(entry, BibDatabaseMode.BIBTEX));
+    }
+
+    @Test
+    void changedEntryTypesClearCache() throws IOException {
+        String before = write(cachingWriter);
+
+        entryTypesManager.addCustomOrModifiedType(new BibEntryTypeBuilder()
+                .withType(StandardEntryType.Article)
+                .withRequiredFields(StandardField.NOTE)
+                .build(), BibDatabaseMode.BIBTEX);
+
+        String expected = write(new BibEntryWriter(new FieldWriter(fieldWriterPreferences), entryTypesManager));
+        assertNotEquals(before, expected);
+        assertEquals(expected, write(cachingWriter));
+    }
+}
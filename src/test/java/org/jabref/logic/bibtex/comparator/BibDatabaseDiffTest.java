@@ -127,4 +127,47 @@ class BibDatabaseDiffTest {
         assertEquals(entryThree, diff.getEntryDifferences().get(2).getNewEntry(), "there is another value as newEntry [2]");
         assertNull(diff.getEntryDifferences().get(2).getOriginalEntry(), "originalEntry is not null [2]");
     }
+
+    @Test
+    void compareOfModifiedEntryAmongUnchangedEntriesReportsOnlyModifiedEntry() throws Exception {
+        BibEntry entryOne = new BibEntry().withCitationKey("one").withField(StandardField.TITLE, "first");
+        BibEntry entryTwo = new BibEntry().withCitationKey("two").withField(StandardField.TITLE, "second").withField(StandardField.YEAR, "2020");
+        BibEntry entryThree = new BibEntry().withCitationKey("three").withField(StandardField.TITLE, "third");
+        BibEntry modifiedEntryTwo = new BibEntry().withCitationKey("two").withField(StandardField.TITLE, "second").withField(StandardField.YEAR, "2021");
+        BibDatabaseContext databaseOne = new BibDatabaseContext(new BibDatabase(Arrays.asList(entryOne, entryTwo, entryThree)));
+        BibDatabaseContext databaseTwo = new BibDatabaseContext(new BibDatabase(Arrays.asList(
+                (BibEntry) entryThree.clone(), modifiedEntryTwo, (BibEntry) entryOne.clone())));
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(databaseOne, databaseTwo);
+
+        assertEquals(1, diff.getEntryDifferences().size(), "incorrect amount of different entries");
+        assertEquals(entryTwo, diff.getEntryDifferences().get(0).getOriginalEntry());
+        assertEquals(modifiedEntryTwo, diff.getEntryDifferences().get(0).getNewEntry());
+    }
+
+    @Test
+    void compareOfModifiedEntryPrefersEntryWithSameCitationKey() throws Exception {
+        BibEntry entry = new BibEntry().withCitationKey("key")
+                                       .withField(StandardField.TITLE, "title")
+                                       .withField(StandardField.AUTHOR, "author")
+                                       .withField(StandardField.YEAR, "2000");
+        BibEntry modifiedEntry = new BibEntry().withCitationKey("key")
+                                               .withField(StandardField.TITLE, "another title")
+                                               .withField(StandardField.AUTHOR, "another author")
+                                               .withField(StandardField.YEAR, "2000");
+        BibEntry similarEntry = new BibEntry().withCitationKey("otherKey")
+                                              .withField(StandardField.TITLE, "title")
+                                              .withField(StandardField.AUTHOR, "author")
+                                              .withField(StandardField.YEAR, "2000");
+        BibDatabaseContext databaseOne = new BibDatabaseContext(new BibDatabase(Collections.singletonList(entry)));
+        BibDatabaseContext databaseTwo = new BibDatabaseContext(new BibDatabase(Arrays.asList(modifiedEntry, similarEntry)));
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(databaseOne, databaseTwo);
+
+        assertEquals(2, diff.getEntryDifferences().size(), "incorrect amount of different entries");
+        assertEquals(entry, diff.getEntryDifferences().get(0).getOriginalEntry());
+        assertEquals(modifiedEntry, diff.getEntryDifferences().get(0).getNewEntry());
+        assertNull(diff.getEntryDifferences().get(1).getOriginalEntry());
+        assertEquals(similarEntry, diff.getEntryDifferences().get(1).getNewEntry());
+    }
 }
@@ -0,0 +1,97 @@
+package org.jabref.logic.bibtex.comparator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.field.OrFields;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BibEntrySorterTest {
+
+    private List<BibEntry> entries;
+
+    @BeforeEach
+    void setUp() {
+        entries = List.of(
+                new BibEntry(StandardEntryType.Article)
+                        .withField(StandardField.AUTHOR, "Zed, Anna and Bar, Bob")
+                        .withField(StandardField.YEAR, "2001")
+                        .withField(StandardField.MONTH, "feb")
+                        .withField(StandardField.VOLUME, "12"),
+                new BibEntry(StandardEntryType.Book)
+                        .withField(StandardField.AUTHOR, "Anna {\\\"O}zil")
+                        .withField(StandardField.YEAR, "1999")
+                        .withField(StandardField.VOLUME, "vol. 2"),
+                new BibEntry(StandardEntryType.Article)
+                        .withField(StandardField.EDITOR, "Bar, Bob")
+                        .withField(StandardField.YEAR, "n.d.")
+                        .withField(StandardField.MONTH, "#jan#")
+                        .withField(StandardField.VOLUME, "3"),
+                new BibEntry(StandardEntryType.Misc)
+                        .withField(StandardField.TITLE, "Only a title"),
+                new BibEntry(StandardEntryType.Article)
+                        .withField(StandardField.AUTHOR, "Zed, Anna and Bar, Bob")
+                        .withField(StandardField.YEAR, "2001")
+                        .withField(StandardField.VOLUME, "12"),
+                new BibEntry(StandardEntryType.Article)
+                        .withField(StandardField.AUTHOR, "anna zed")
+                        .withField(StandardField.YEAR, "2001")
+                        .withField(StandardField.MONTH, "1"));
+    }
+
+    private void assertSortedLikeComparatorStack(List<Comparator<BibEntry>> comparators) {
+        List<BibEntry> expected = new ArrayList<>(entries);
+        expected.sort(new FieldComparatorStack<>(comparators));
+
+        assertEquals(expected, BibEntrySorter.sort(entries, comparators));
+    }
+
+    @Test
+    void sortsByAuthorYearAndMonthLikeComparatorStack() {
+        assertSortedLikeComparatorStack(List.of(
+                new FieldComparator(new OrFields(StandardField.AUTHOR, StandardField.EDITOR), false),
+                new FieldComparator(StandardField.YEAR),
+                new FieldComparator(StandardField.MONTH)));
+    }
+
+    @Test
+    void sortsDescendingByNumericFieldLikeComparatorStack() {
+        assertSortedLikeComparatorStack(List.of(
+                new FieldComparator(new OrFields(StandardField.VOLUME), true),
+                new FieldComparator(new OrFields(StandardField.YEAR), true)));
+    }
+
+    @Test
+    void sortsByTypeAndOtherComparatorsLikeComparatorStack() {
+        assertSortedLikeComparatorStack(List.of(
+                new FieldComparator(InternalField.TYPE_HEADER),
+                new CrossRefEntryComparator(),
+                new FieldComparator(StandardField.TITLE)));
+    }
+
+    @Test
+    void keepsOrderOfEqualEntries() {
+        assertEquals(entries, BibEntrySorter.sort(entries, List.of(new FieldComparator(StandardField.JOURNAL))));
+    }
+
+    @Test
+    void sortKeyIsUpdatedWhenFieldChanges() {
+        FieldComparator comparator = new FieldComparator(StandardField.YEAR);
+        BibEntry entry = new BibEntry().withField(StandardField.YEAR, "2000");
+        BibEntry other = new BibEntry().withField(StandardField.YEAR, "2010");
+        assertEquals(List.of(entry, other), BibEntrySorter.sort(List.of(other, entry), List.of(comparator)));
+
+        entry.setField(StandardField.YEAR, "2020");
+
+        assertEquals(List.of(other, entry), BibEntrySorter.sort(List.of(entry, other), List.of(comparator)));
+    }
+}
@@ -37,6 +37,28 @@ public class TestVM {
         assertEquals(expected.replaceAll("\\s", ""), vm.run(v).replaceAll("\\s", ""));
     }
 
+    @Test
+    public void testAbbrvRunTwice() throws RecognitionException, IOException {
+        VM vm = new VM(new File("src/test/resources/org/jabref/logic/bst/abbrv.bst"));
+        List<BibEntry> v = List.of(t1BibtexEntry());
+
+        String firstRun = vm.run(v);
+
+        assertEquals(firstRun, vm.run(v));
+    }
+
+    @Test
+    public void testRedefinedFunctionIsCalled() throws RecognitionException {
+        VM vm = new VM("FUNCTION {g} { #1 } FUNCTION {f} { g } EXECUTE {f} "
+                + "FUNCTION {g} { #2 } EXECUTE {f}");
+
+        vm.run(Collections.emptyList());
+
+        assertEquals(2, vm.getStack().pop());
+        assertEquals(1, vm.getStack().pop());
+        assertTrue(vm.getStack().isEmpty());
+    }
+
     @Test
     public void testVMSimple() throws RecognitionException, IOException {
 
@@ -379,7 +401,7 @@ public class TestVM {
         vm.run(Collections.emptyList());
 
         assertEquals(Integer.MAX_VALUE, vm.getStack().pop());
-        assertTrue(vm.getStack().empty());
+        assertTrue(vm.getStack().isEmpty());
     }
 
     @Test
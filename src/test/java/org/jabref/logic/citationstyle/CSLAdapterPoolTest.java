@@ -0,0 +1,50 @@
+package org.jabref.logic.citationstyle;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CSLAdapterPoolTest {
+
+    private static final String UNSORTED_STYLE = """
+            <style xmlns="http://purl.org/net/xbiblio/csl" class="in-text" version="1.0">
+              <citation>
+                <layout><text variable="title"/></layout>
+              </citation>
+              <bibliography>
+                <layout><text variable="title"/></layout>
+              </bibliography>
+            </style>
+            """;
+
+    @Test
+    void unsortedStyleFormatsEntriesIndependently() {
+        assertTrue(CSLAdapterPool.formatsEntriesIndependently(UNSORTED_STYLE));
+    }
+
+    @Test
+    void sortedStyleDoesNotFormatEntriesIndependently() {
+        String sortedStyle = UNSORTED_STYLE.replace("<bibliography>", "<bibliography><sort><key variable=\"title\"/></sort>");
+
+        assertFalse(CSLAdapterPool.formatsEntriesIndependently(sortedStyle));
+    }
+
+    @Test
+    void numberingStyleDoesNotFormatEntriesIndependently() {
+        assertFalse(CSLAdapterPool.formatsEntriesIndependently(CitationStyle.getDefault().getSource()));
+    }
+
+    @Test
+    void concurrentWarmUpsCreateAtMostEnginesPerStyle() {
+        CSLAdapterPool pool = new CSLAdapterPool();
+        String style = CitationStyle.getDefault().getSource();
+
+        IntStream.range(0, 4).parallel().forEach(i -> pool.warmUp(style, CitationStyleOutputFormat.TEXT, CSLAdapterPool.ENGINES_PER_STYLE));
+
+        assertEquals(CSLAdapterPool.ENGINES_PER_STYLE, pool.getNumberOfEngines(style, CitationStyleOutputFormat.TEXT));
+    }
+}
@@ -1,5 +1,6 @@
 package org.jabref.logic.citationstyle;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.jabref.logic.l10n.Localization;
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class CitationStyleGeneratorTest {
 
@@ -213,4 +215,33 @@ class CitationStyleGeneratorTest {
         String citation = CitationStyleGenerator.generateCitation(entry, CitationStyle.getDefault().getSource(), CitationStyleOutputFormat.TEXT, bibDatabaseContext, bibEntryTypesManager);
         assertEquals(expected, citation);
     }
+
+    @Test
+    void changedEntryIsGeneratedAgain() {
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "Last, First");
+        BibDatabaseContext bibDatabaseContext = new BibDatabaseContext(new BibDatabase(List.of(entry)));
+        String style = CitationStyle.getDefault().getSource();
+
+        assertTrue(CitationStyleGenerator.generateCitation(entry, style, CitationStyleOutputFormat.TEXT, bibDatabaseContext, bibEntryTypesManager).contains("F. Last"));
+
+        entry.setField(StandardField.AUTHOR, "Doe, Jane");
+
+        assertTrue(CitationStyleGenerator.generateCitation(entry, style, CitationStyleOutputFormat.TEXT, bibDatabaseContext, bibEntryTypesManager).contains("J. Doe"));
+    }
+
+    @Test
+    void generateCitationsOfManyEntriesKeepsNumbering() {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            entries.add(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.AUTHOR, "Last, First"));
+        }
+        BibDatabaseContext bibDatabaseContext = new BibDatabaseContext(new BibDatabase(entries));
+
+        List<String> citations = CitationStyleGenerator.generateCitations(entries, CitationStyle.getDefault().getSource(), CitationStyleOutputFormat.TEXT, bibDatabaseContext, bibEntryTypesManager);
+
+        assertEquals(250, citations.size());
+        assertTrue(citations.get(249).startsWith("[250]"));
+    }
 }
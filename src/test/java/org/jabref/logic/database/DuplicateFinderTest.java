@@ -0,0 +1,123 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DuplicateFinderTest {
+
+    private final BibEntryTypesManager entryTypesManager = new BibEntryTypesManager();
+    private DuplicateFinder duplicateFinder;
+
+    @BeforeEach
+    void setUp() {
+        duplicateFinder = new DuplicateFinder(entryTypesManager);
+    }
+
+    private List<BibEntry> createCorpus() {
+        return Arrays.asList(
+                new BibEntry(StandardEntryType.Article)
+                        .withField(StandardField.AUTHOR, "Kevin Shields")
+                        .withField(StandardField.TITLE, "Marine finfish larviculture in Europe")
+                        .withField(StandardField.JOURNAL, "Aquaculture")
+                        .withField(StandardField.YEAR, "2001")
+                        .withField(StandardField.DOI, "10.1016/S0044-8486(01)00699-8"),
+                new BibEntry(StandardEntryType.Article)
+                        .withField(StandardField.AUTHOR, "Kevin Shields")
+                        .withField(StandardField.TITLE, "Marine finfish larvicultur in Europe")
+                        .withField(StandardField.JOURNAL, "Aquaculture")
+                        .withField(StandardField.YEAR, "2001"),
+                new BibEntry(StandardEntryType.InProceedings)
+                        .withField(StandardField.TITLE, "Larviculture of marine fish")
+                        .withField(StandardField.DOI, "10.1016/S0044-8486(01)00699-8"),
+                new BibEntry(StandardEntryType.Book)
+                        .withField(StandardField.AUTHOR, "Charles Dickens")
+                        .withField(StandardField.TITLE, "Great Expectations")
+                        .withField(StandardField.PUBLISHER, "Chapman & Hall")
+                        .withField(StandardField.YEAR, "1861")
+                        .withField(StandardField.ISBN, "0-14-143956-3"),
+                new BibEntry(StandardEntryType.Book)
+                        .withField(StandardField.AUTHOR, "Charles Dickens")
+                        .withField(StandardField.TITLE, "Bleak House")
+                        .withField(StandardField.PUBLISHER, "Bradbury & Evans")
+                        .withField(StandardField.YEAR, "1853")
+                        .withField(StandardField.ISBN, "0-14-143972-5"),
+                new BibEntry(StandardEntryType.Book)
+                        .withField(StandardField.AUTHOR, "Dickens, Charles")
+                        .withField(StandardField.TITLE, "{G}reat expectations")
+                        .withField(StandardField.YEAR, "1861"),
+                new BibEntry(StandardEntryType.Misc)
+                        .withField(StandardField.AUTHOR, "Billy Bob"),
+                new BibEntry(StandardEntryType.Misc)
+                        .withField(StandardField.AUTHOR, "Billy Bob"),
+                new BibEntry(StandardEntryType.Misc)
+                        .withField(StandardField.AUTHOR, "Someone Else")
+                        .withField(StandardField.NOTE, "Some note"),
+                new BibEntry(StandardEntryType.Article)
+                        .withField(StandardField.AUTHOR, "Completely Different")
+                        .withField(StandardField.TITLE, "Holy Moly Uffdada und Trallalla")
+                        .withField(StandardField.JOURNAL, "Journal of Nothing")
+                        .withField(StandardField.YEAR, "1992"),
+                new BibEntry(StandardEntryType.Article)
+                        .withField(StandardField.AUTHOR, "Alice Miller")
+                        .withField(StandardField.TITLE, "Quantum things")
+                        .withField(StandardField.JOURNAL, "Physical Review")
+                        .withField(StandardField.YEAR, "2019")
+                        .withField(StandardField.EPRINT, "1234.5678"),
+                new BibEntry(StandardEntryType.TechReport)
+                        .withField(StandardField.TITLE, "On quantum things")
+                        .withField(StandardField.EPRINT, "1234.5678"));
+    }
+
+    private List<List<BibEntry>> findDuplicatesByComparingAllPairs(List<BibEntry> entries) {
+        DuplicateCheck duplicateCheck = new DuplicateCheck(entryTypesManager);
+        List<List<BibEntry>> duplicates = new ArrayList<>();
+        for (int i = 0; i < (entries.size() - 1); i++) {
+            for (int j = i + 1; j < entries.size(); j++) {
+                if (duplicateCheck.isDuplicate(entries.get(i), entries.get(j), BibDatabaseMode.BIBTEX)) {
+                    duplicates.add(Arrays.asList(entries.get(i), entries.get(j)));
+                }
+            }
+        }
+        return duplicates;
+    }
+
+    @Test
+    void findsSamePairsAsComparingAllPairs() {
+        List<BibEntry> corpus = createCorpus();
+
+        assertEquals(findDuplicatesByComparingAllPairs(corpus), duplicateFinder.findDuplicates(corpus, BibDatabaseMode.BIBTEX));
+    }
+
+    @Test
+    void findsEntriesOfDifferentTypesWithSameIdentifier() {
+        BibEntry article = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "Some title")
+                .withField(StandardField.PMID, "123456");
+        BibEntry report = new BibEntry(StandardEntryType.TechReport)
+                .withField(StandardField.TITLE, "Another title")
+                .withField(StandardField.PMID, "123456");
+
+        assertEquals(List.of(List.of(article, report)), duplicateFinder.findDuplicates(List.of(article, report), BibDatabaseMode.BIBTEX));
+    }
+
+    @Test
+    void findsEntriesWithoutTitleAndYear() {
+        BibEntry one = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "Billy Bob");
+        BibEntry other = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Some title");
+        BibEntry two = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "Billy Bob");
+
+        assertEquals(List.of(List.of(one, two)), duplicateFinder.findDuplicates(List.of(one, other, two), BibDatabaseMode.BIBTEX));
+    }
+}
@@ -0,0 +1,70 @@
+package org.jabref.logic.database;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The blocking of the entries is tested by {@link DuplicateFinderTest}
+ */
+class DuplicateIndexTest {
+
+    private BibDatabase database;
+    private BibEntry first;
+    private BibEntry second;
+    private DuplicateIndex duplicateIndex;
+
+    @BeforeEach
+    void setUp() {
+        first = new BibEntry(StandardEntryType.Misc).withField(StandardField.AUTHOR, "Billy Bob");
+        second = new BibEntry(StandardEntryType.Misc).withField(StandardField.AUTHOR, "Billy Bob");
+        database = new BibDatabase(List.of(first, second));
+        duplicateIndex = new DuplicateIndex(database, BibDatabaseMode.BIBTEX, new BibEntryTypesManager());
+    }
+
+    @Test
+    void getsFirstDuplicateInOrderOfLibrary() {
+        BibEntry entry = new BibEntry(StandardEntryType.Misc).withField(StandardField.AUTHOR, "Billy Bob");
+
+        assertEquals(Optional.of(first), duplicateIndex.getDuplicate(entry));
+    }
+
+    @Test
+    void ignoresEntriesAddedAfterBuilding() {
+        BibEntry entry = new BibEntry(StandardEntryType.Misc).withField(StandardField.AUTHOR, "Someone Else");
+        database.insertEntry(new BibEntry(StandardEntryType.Misc).withField(StandardField.AUTHOR, "Someone Else"));
+
+        assertEquals(Optional.empty(), duplicateIndex.getDuplicate(entry));
+    }
+
+    @Test
+    void keepsEntriesWithoutDuplicateInOrder() {
+        BibEntry one = new BibEntry(StandardEntryType.Misc).withField(StandardField.AUTHOR, "Someone Else");
+        BibEntry duplicate = new BibEntry(StandardEntryType.Misc).withField(StandardField.AUTHOR, "Billy Bob");
+        BibEntry two = new BibEntry(StandardEntryType.Misc).withField(StandardField.AUTHOR, "Completely Different");
+
+        assertEquals(List.of(one, two), duplicateIndex.getEntriesWithoutDuplicate(List.of(one, duplicate, two)));
+    }
+
+    @Test
+    void hasDuplicateIfOneEntryHasDuplicate() {
+        BibEntry entry = new BibEntry(StandardEntryType.Misc).withField(StandardField.AUTHOR, "Billy Bob");
+        BibEntry other = new BibEntry(StandardEntryType.Misc).withField(StandardField.AUTHOR, "Someone Else");
+
+        assertTrue(duplicateIndex.hasDuplicate(List.of(other, entry)));
+        assertFalse(duplicateIndex.hasDuplicate(List.of(other)));
+    }
+}
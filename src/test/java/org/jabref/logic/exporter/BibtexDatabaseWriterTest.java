@@ -8,11 +8,14 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
+import org.jabref.logic.bibtex.BibEntryWriter;
+import org.jabref.logic.bibtex.FieldWriter;
 import org.jabref.logic.citationkeypattern.AbstractCitationKeyPattern;
 import org.jabref.logic.citationkeypattern.DatabaseCitationKeyPattern;
 import org.jabref.logic.citationkeypattern.GlobalCitationKeyPattern;
@@ -914,4 +917,35 @@ public class BibtexDatabaseWriterTest {
         // returns tu original entry, not to the last saved one
         assertEquals(bibtexEntry, stringWriter.toString());
     }
+
+    @Test
+    void writeManyEntriesYieldsSameResultAsWritingEntriesOneAfterTheOther() throws Exception {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            BibEntry entry = new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.AUTHOR, "Author " + i)
+                    .withField(StandardField.TITLE, "Title " + i)
+                    .withField(StandardField.ABSTRACT, "first line\r\nsecond line " + i);
+            if ((i % 3) == 0) {
+                entry.setCommentsBeforeEntry("% comment " + i);
+            }
+            if ((i % 2) == 0) {
+                entry.setParsedSerialization("@Article{key" + i + ",\n  title = {Title " + i + "},\n}");
+                entry.setChanged(false);
+            }
+            entries.add(entry);
+        }
+        database.insertEntries(entries);
+
+        databaseWriter.savePartOfDatabase(bibtexContext, entries);
+
+        StringWriter expected = new StringWriter();
+        BibWriter expectedBibWriter = new BibWriter(expected, OS.NEWLINE);
+        BibEntryWriter bibEntryWriter = new BibEntryWriter(new FieldWriter(savePreferences.getFieldWriterPreferences()), entryTypesManager);
+        for (BibEntry entry : BibDatabaseWriter.getSortedEntries(bibtexContext, entries, savePreferences)) {
+            bibEntryWriter.write(entry, expectedBibWriter, BibDatabaseMode.BIBTEX, savePreferences.shouldReformatFile());
+        }
+        assertEquals(expected.toString(), stringWriter.toString());
+    }
 }
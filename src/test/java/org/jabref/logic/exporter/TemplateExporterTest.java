@@ -0,0 +1,93 @@
+package org.jabref.logic.exporter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.logic.layout.LayoutFormatterPreferences;
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TemplateExporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private LayoutFormatterPreferences layoutPreferences;
+    private SavePreferences savePreferences;
+
+    @BeforeEach
+    void setUp() {
+        layoutPreferences = mock(LayoutFormatterPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        savePreferences = mock(SavePreferences.class);
+        when(savePreferences.shouldSaveInOriginalOrder()).thenReturn(true);
+    }
+
+    private TemplateExporter createExporter(String layout) throws IOException {
+        Path layoutFile = tempDir.resolve("test.layout");
+        Files.writeString(layoutFile, layout);
+        TemplateExporter exporter = new TemplateExporter("Test", "test", layoutFile.toString(), null,
+                StandardFileType.TXT, layoutPreferences, savePreferences);
+        exporter.setCustomExport(true);
+        return exporter;
+    }
+
+    private String export(TemplateExporter exporter, List<BibEntry> entries) throws Exception {
+        Path file = tempDir.resolve("export.txt");
+        exporter.export(new BibDatabaseContext(new BibDatabase(entries)), file, entries);
+        return Files.readString(file);
+    }
+
+    @Test
+    void exportsEntriesInOrderWithTheirNumber() throws Exception {
+        List<BibEntry> entries = new ArrayList<>();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            entries.add(new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Title " + i));
+            expected.append(i + 1).append(": Title ").append(i).append('\n');
+        }
+        TemplateExporter exporter = createExporter("\\format[Number]{\\title}: \\title\n");
+
+        assertEquals(expected.toString(), export(exporter, entries));
+        assertEquals(expected.toString(), export(exporter, entries));
+    }
+
+    @Test
+    void exportsGroupOnlyForFirstEntryOfGroup() throws Exception {
+        List<BibEntry> entries = List.of(
+                new BibEntry(StandardEntryType.Article).withField(StandardField.YEAR, "2020").withField(StandardField.TITLE, "A"),
+                new BibEntry(StandardEntryType.Article).withField(StandardField.YEAR, "2020").withField(StandardField.TITLE, "B"),
+                new BibEntry(StandardEntryType.Article).withField(StandardField.YEAR, "2021").withField(StandardField.TITLE, "C"));
+        TemplateExporter exporter = createExporter("\\begingroup{year}\\year\n\\endgroup{year}\\title\n");
+
+        assertEquals("2020\nA\nB\n2021\nC\n", export(exporter, entries));
+        assertEquals("2020\nA\nB\n2021\nC\n", export(exporter, entries));
+    }
+
+    @Test
+    void usesTypeSpecificLayoutIfPresent() throws Exception {
+        List<BibEntry> entries = List.of(
+                new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "A"),
+                new BibEntry(StandardEntryType.Book).withField(StandardField.TITLE, "B"),
+                new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "C"));
+        TemplateExporter exporter = createExporter("\\title\n");
+        Files.writeString(tempDir.resolve("test.book.layout"), "Book: \\title\n");
+
+        assertEquals("A\nBook: B\nC\n", export(exporter, entries));
+    }
+}
@@ -1842,4 +1842,63 @@ class BibtexParserTest {
 
         assertEquals(Optional.of("#apr#"), result.get().getField(StandardField.MONTH));
     }
+
+    private static final String LARGE_INPUT_HEADER = "@preamble{some preamble}\n"
+            + "@string{journal = {Journal of Testing}}\n";
+    private static final String LARGE_INPUT_BLOCK = "\n% some comment\n"
+            + "@Article{test,\n"
+            + "  author  = {Ed von Test and Kopp, Kolb},\n"
+            + "  title   = \"Some {quoted} title\",\n"
+            + "  journal = journal,\n"
+            + "  year    = 2021,\n"
+            + "}\n"
+            + "\n"
+            + "@Book(book, title = {With ) and @ inside braces}, publisher = {Pub})\n"
+            + "@Misc{misc,\n"
+            + "  note = {Multi\n"
+            + "line},\n"
+            + "}\n";
+    private static final String LARGE_INPUT_EPILOG = "\nsome epilog";
+
+    private static int getNumberOfBlocksForParallelParsing() {
+        return ((1024 * 1024) / LARGE_INPUT_BLOCK.length()) + 1;
+    }
+
+    @Test
+    void parseLargeInputYieldsSameResultAsSmallInput() throws IOException {
+        ParserResult small = parser.parse(new StringReader(LARGE_INPUT_HEADER + LARGE_INPUT_BLOCK + LARGE_INPUT_EPILOG));
+        int numberOfBlocks = getNumberOfBlocksForParallelParsing();
+
+        ParserResult large = new BibtexParser(importFormatPreferences, fileMonitor)
+                .parse(new StringReader(LARGE_INPUT_HEADER + LARGE_INPUT_BLOCK.repeat(numberOfBlocks) + LARGE_INPUT_EPILOG));
+
+        List<BibEntry> expectedEntries = new ArrayList<>();
+        for (int i = 0; i < numberOfBlocks; i++) {
+            expectedEntries.addAll(small.getDatabase().getEntries());
+        }
+        assertEquals(expectedEntries, large.getDatabase().getEntries());
+        for (int i = 0; i < expectedEntries.size(); i++) {
+            assertEquals(expectedEntries.get(i).getParsedSerialization(), large.getDatabase().getEntries().get(i).getParsedSerialization());
+        }
+        assertEquals(small.getDatabase().getStringByName("journal").map(BibtexString::getContent),
+                large.getDatabase().getStringByName("journal").map(BibtexString::getContent));
+        assertEquals(small.getDatabase().getPreamble(), large.getDatabase().getPreamble());
+        assertEquals(small.getDatabase().getEpilog(), large.getDatabase().getEpilog());
+        assertFalse(large.hasWarnings());
+    }
+
+    @Test
+    void parseLargeInputWithMalformedEntryRecoversLikeSmallInput() throws IOException {
+        String malformedEntry = "@Article{broken, author = {A} title = {B}}\n";
+        ParserResult small = parser.parse(new StringReader(LARGE_INPUT_HEADER + malformedEntry + LARGE_INPUT_BLOCK + LARGE_INPUT_EPILOG));
+        int numberOfBlocks = getNumberOfBlocksForParallelParsing();
+
+        ParserResult large = new BibtexParser(importFormatPreferences, fileMonitor)
+                .parse(new StringReader(LARGE_INPUT_HEADER + malformedEntry + LARGE_INPUT_BLOCK.repeat(numberOfBlocks) + LARGE_INPUT_EPILOG));
+
+        assertTrue(large.hasWarnings());
+        assertEquals(small.warnings(), large.warnings());
+        assertEquals(small.getDatabase().getEntries(), large.getDatabase().getEntries().subList(0, small.getDatabase().getEntryCount()));
+        assertEquals(small.getDatabase().getEntryCount() + ((numberOfBlocks - 1) * 3), large.getDatabase().getEntryCount());
+    }
 }
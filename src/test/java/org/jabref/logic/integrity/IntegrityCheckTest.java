@@ -3,10 +3,12 @@ package org.jabref.logic.integrity;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
@@ -34,6 +36,7 @@ import org.mockito.Mockito;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -145,6 +148,33 @@ class IntegrityCheckTest {
         assertEquals(clonedEntry, entry);
     }
 
+    @Test
+    void checkYieldsMessagesOfEntriesInOrderOfDatabase() {
+        BibDatabase bibDatabase = new BibDatabase();
+        for (int i = 0; i < 200; i++) {
+            bibDatabase.insertEntry(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + (i % 150))
+                    .withField(StandardField.YEAR, (i % 3) == 0 ? "year " + i : "2001")
+                    .withField(StandardField.DOI, "10.1000/" + (i % 190)));
+        }
+        BibDatabaseContext context = new BibDatabaseContext(bibDatabase);
+        IntegrityCheck integrityCheck = new IntegrityCheck(context,
+                mock(FilePreferences.class),
+                createCitationKeyPatternPreferences(),
+                JournalAbbreviationLoader.loadBuiltInRepository(), false);
+
+        List<IntegrityMessage> expected = new ArrayList<>();
+        for (BibEntry entry : bibDatabase.getEntries()) {
+            expected.addAll(integrityCheck.checkEntry(entry));
+        }
+        expected.addAll(integrityCheck.checkDatabase(bibDatabase));
+        AtomicInteger checkedEntries = new AtomicInteger();
+
+        assertEquals(expected, integrityCheck.check(messages -> checkedEntries.incrementAndGet()));
+        assertEquals(200, checkedEntries.get());
+        assertTrue(integrityCheck.getCheckerDurations().containsKey("YearChecker"));
+    }
+
     private BibDatabaseContext createContext(Field field, String value, EntryType type) {
         BibEntry entry = new BibEntry();
         entry.setField(field, value);
@@ -19,6 +19,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Answers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -166,4 +168,26 @@ class LayoutTest {
 
         assertEquals("JoeDoe and MaryJ", layoutText);
     }
+
+    @Test
+    void numberIsOneOutsideOfExport() throws IOException {
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "title");
+
+        assertEquals("1", layout("\\format[Number]{\\title}", entry));
+    }
+
+    @Test
+    void numberIsGivenEntryNumber() throws IOException {
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "title");
+        Layout layout = new LayoutHelper(new StringReader("\\format[Number]{\\title}"), layoutFormatterPreferences).getLayoutFromText();
+
+        assertEquals("42", layout.doLayout(entry, null, 42));
+        assertEquals("1", layout.doLayout(entry, null));
+    }
+
+    @Test
+    void containsGroupsOnlyWithGroupBlock() throws IOException {
+        assertTrue(new LayoutHelper(new StringReader("\\begingroup{year}\\year\\endgroup{year}"), layoutFormatterPreferences).getLayoutFromText().containsGroups());
+        assertFalse(new LayoutHelper(new StringReader("\\begin{year}\\year\\end{year}"), layoutFormatterPreferences).getLayoutFromText().containsGroups());
+    }
 }
@@ -0,0 +1,46 @@
+package org.jabref.logic.pdf.search.indexing;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javafx.stage.Stage;
+
+import org.jabref.gui.util.CurrentThreadTaskExecutor;
+import org.jabref.testutils.category.GUITest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@GUITest
+@ExtendWith(ApplicationExtension.class)
+class IndexingTaskManagerTest {
+
+    @Start
+    void onStart(Stage stage) {
+        // Needed to init JavaFX thread
+        stage.show();
+    }
+
+    @Test
+    void taskQueuedWhileCommittingIsRun() {
+        IndexingTaskManager taskManager = new IndexingTaskManager(new CurrentThreadTaskExecutor());
+        PdfIndexer indexer = mock(PdfIndexer.class);
+        AtomicBoolean queuedWhileCommitting = new AtomicBoolean();
+        doAnswer(invocation -> {
+            if (!queuedWhileCommitting.getAndSet(true)) {
+                taskManager.createIndex(indexer);
+            }
+            return null;
+        }).when(indexer).commit();
+
+        taskManager.createIndex(indexer);
+
+        verify(indexer, times(2)).createIndex();
+    }
+}
@@ -16,6 +16,7 @@ import org.jabref.preferences.FilePreferences;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.store.NIOFSDirectory;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -45,6 +46,11 @@ public class PdfIndexerTest {
         this.indexer = PdfIndexer.of(context, filePreferences);
     }
 
+    @AfterEach
+    public void tearDown() {
+        PdfIndexer.shutdown(context);
+    }
+
     @Test
     public void exampleThesisIndex() throws IOException {
         // given
@@ -15,6 +15,7 @@ import org.jabref.model.pdf.search.PdfSearchResults;
 import org.jabref.preferences.FilePreferences;
 
 import org.apache.lucene.queryparser.classic.ParseException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -28,13 +29,14 @@ import static org.mockito.Mockito.when;
 public class PdfSearcherTest {
 
     private PdfSearcher search;
+    private BibDatabaseContext context;
 
     @BeforeEach
     public void setUp(@TempDir Path indexDir) throws IOException {
         FilePreferences filePreferences = mock(FilePreferences.class);
         // given
         BibDatabase database = new BibDatabase();
-        BibDatabaseContext context = mock(BibDatabaseContext.class);
+        context = mock(BibDatabaseContext.class);
         when(context.getFileDirectories(Mockito.any())).thenReturn(Collections.singletonList(Path.of("src/test/resources/pdfs")));
         when(context.getFulltextIndexPath()).thenReturn(indexDir);
         when(context.getDatabase()).thenReturn(database);
@@ -60,6 +62,12 @@ public class PdfSearcherTest {
         indexer.addToIndex(context);
     }
 
+    @AfterEach
+    public void tearDown() {
+        PdfIndexer.shutdown(context);
+        PdfSearcher.shutdown(context);
+    }
+
     @Test
     public void searchForTest() throws IOException, ParseException {
         PdfSearchResults result = search.search("test", 10);
@@ -139,6 +139,44 @@ class DBMSProcessorTest {
         assertEquals(Optional.of(expectedEntry), actualEntry);
     }
 
+    @Test
+    void testInsertEntryWithLongFieldValue() {
+        // Longer than the 4000 bytes a VARCHAR2 value may have in Oracle
+        BibEntry expectedEntry = getBibEntryExample().withField(StandardField.ABSTRACT, "a".repeat(5000));
+
+        dbmsProcessor.insertEntry(expectedEntry);
+
+        Optional<BibEntry> actualEntry = dbmsProcessor.getSharedEntry(expectedEntry.getSharedBibEntryData().getSharedID());
+        assertEquals(Optional.of(expectedEntry), actualEntry);
+    }
+
+    @Test
+    void testUpdateEntryWithLongFieldValue() throws Exception {
+        BibEntry expectedEntry = getBibEntryExample().withField(StandardField.ABSTRACT, "short");
+        dbmsProcessor.insertEntry(expectedEntry);
+
+        expectedEntry.setField(StandardField.ABSTRACT, "a".repeat(5000));
+        expectedEntry.setField(StandardField.COMMENT, "c".repeat(5000));
+        dbmsProcessor.updateEntry(expectedEntry);
+
+        Optional<BibEntry> actualEntry = dbmsProcessor.getSharedEntry(expectedEntry.getSharedBibEntryData().getSharedID());
+        assertEquals(Optional.of(expectedEntry), actualEntry);
+    }
+
+    @Test
+    void testUpdateEntryKeepsUnchangedFields() throws Exception {
+        BibEntry expectedEntry = getBibEntryExample();
+        BibEntry otherEntry = getBibEntryExample();
+        dbmsProcessor.insertEntries(List.of(expectedEntry, otherEntry));
+
+        expectedEntry.setField(StandardField.YEAR, "1995");
+        dbmsProcessor.updateEntry(expectedEntry);
+
+        assertEquals(List.of(expectedEntry, otherEntry), dbmsProcessor.getSharedEntries(List.of(
+                expectedEntry.getSharedBibEntryData().getSharedID(),
+                otherEntry.getSharedBibEntryData().getSharedID())));
+    }
+
     @Test
     void testUpdateEmptyEntry() throws Exception {
         BibEntry expectedEntry = new BibEntry(StandardEntryType.Article);
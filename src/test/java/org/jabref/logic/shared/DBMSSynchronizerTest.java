@@ -4,6 +4,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.citationkeypattern.GlobalCitationKeyPattern;
 import org.jabref.logic.cleanup.FieldFormatterCleanup;
@@ -201,6 +204,32 @@ public class DBMSSynchronizerTest {
         assertEquals(List.of(modifiedBibEntry), dbmsProcessor.getSharedEntries());
     }
 
+    @Test
+    public void pullChangesOfSharedIDsOnlySynchronizesThoseEntries() throws Exception {
+        BibEntry firstEntry = createExampleBibEntry(1);
+        BibEntry secondEntry = createExampleBibEntry(2);
+        BibEntry thirdEntry = createExampleBibEntry(3);
+        dbmsProcessor.insertEntries(List.of(firstEntry, secondEntry, thirdEntry));
+        dbmsSynchronizer.synchronizeLocalDatabase();
+
+        firstEntry.setField(StandardField.YEAR, "2000");
+        dbmsProcessor.updateEntry(firstEntry);
+        secondEntry.setField(StandardField.YEAR, "2001");
+        dbmsProcessor.updateEntry(secondEntry);
+        dbmsProcessor.removeEntries(List.of(thirdEntry));
+        BibEntry fourthEntry = createExampleBibEntry(4);
+        dbmsProcessor.insertEntry(fourthEntry);
+
+        // The second entry changed as well, but the clients were not notified about it
+        dbmsSynchronizer.pullChanges(Set.of(1, 3, 4));
+
+        List<BibEntry> localEntries = bibDatabase.getEntries();
+        assertEquals(List.of(1, 2, 4), localEntries.stream().map(entry -> entry.getSharedBibEntryData().getSharedID()).collect(Collectors.toList()));
+        assertEquals(Optional.of("2000"), localEntries.get(0).getField(StandardField.YEAR));
+        assertEquals(Optional.empty(), localEntries.get(1).getField(StandardField.YEAR));
+        assertEquals(fourthEntry, localEntries.get(2));
+    }
+
     @Test
     public void updateEntryDoesNotModifyLocalDatabase() throws Exception {
         BibEntry bibEntry = createExampleBibEntry(1);
@@ -0,0 +1,51 @@
+package org.jabref.logic.shared.listener;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PostgresSQLNotificationListenerTest {
+
+    private static final String OTHER_PROCESSOR_ID = "other-processor";
+
+    @Test
+    void payloadOfOwnProcessorIsIgnored() {
+        assertEquals(Optional.empty(), PostgresSQLNotificationListener.parsePayload(PostgresSQLNotificationListener.createPayload(List.of(1, 2))));
+    }
+
+    @Test
+    void payloadWithSharedIDsIsParsed() {
+        SharedChanges changes = PostgresSQLNotificationListener.parsePayload(OTHER_PROCESSOR_ID + ":3,1,2").get();
+
+        assertFalse(changes.isFullSynchronizationRequired());
+        assertEquals(Set.of(1, 2, 3), changes.getSharedIDs());
+    }
+
+    @Test
+    void payloadWithoutSharedIDsRequiresFullSynchronization() {
+        assertTrue(PostgresSQLNotificationListener.parsePayload(OTHER_PROCESSOR_ID).get().isFullSynchronizationRequired());
+    }
+
+    @Test
+    void invalidPayloadRequiresFullSynchronization() {
+        assertTrue(PostgresSQLNotificationListener.parsePayload(OTHER_PROCESSOR_ID + ":1,a").get().isFullSynchronizationRequired());
+    }
+
+    @Test
+    void mergedChangesContainAllSharedIDs() {
+        SharedChanges changes = SharedChanges.ofEntries(List.of(1)).merge(SharedChanges.ofEntries(List.of(2)));
+
+        assertEquals(Set.of(1, 2), changes.getSharedIDs());
+    }
+
+    @Test
+    void mergeWithUnknownChangesRequiresFullSynchronization() {
+        assertTrue(SharedChanges.ofEntries(List.of(1)).merge(SharedChanges.ofUnknownChanges()).isFullSynchronizationRequired());
+    }
+}
@@ -12,6 +12,7 @@ import java.util.Set;
 
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.entry.types.StandardEntryType;
@@ -365,6 +366,51 @@ class BibDatabaseTest {
         assertEquals(1, database.getNumberOfCitationKeyOccurrences("AAA"));
     }
 
+    @Test
+    void entryIsFoundByChangedCitationKey() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+
+        entry.setCitationKey("BBB");
+
+        assertEquals(Optional.empty(), database.getEntryByCitationKey("AAA"));
+        assertEquals(Optional.of(entry), database.getEntryByCitationKey("BBB"));
+    }
+
+    @Test
+    void entryWithClearedCitationKeyIsNotFound() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+
+        entry.clearField(InternalField.KEY_FIELD);
+
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("AAA"));
+    }
+
+    @Test
+    void removedEntryIsNotFoundAfterChangingItsCitationKey() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+
+        entry.setCitationKey("BBB");
+
+        assertEquals(Optional.empty(), database.getEntryByCitationKey("BBB"));
+    }
+
+    @Test
+    void entriesByCitationKeyAreInOrderOfDatabase() {
+        BibEntry first = new BibEntry().withCitationKey("AAA").withField(StandardField.TITLE, "first");
+        BibEntry second = new BibEntry().withCitationKey("BBB").withField(StandardField.TITLE, "second");
+        database.insertEntries(first, second);
+
+        second.setCitationKey("CCC");
+        first.setCitationKey("CCC");
+
+        assertEquals(List.of(first, second), database.getEntriesByCitationKey("CCC"));
+        assertEquals(Optional.of(first), database.getEntryByCitationKey("CCC"));
+    }
+
     @Test
     void circularStringResolving() {
         BibtexString string = new BibtexString("AAA", "#BBB#");
@@ -107,6 +107,16 @@ public class AuthorListTest {
         assertNotSame(authorList, AuthorList.parse("Smith"));
     }
 
+    @Test
+    public void parseCountsCacheHits() {
+        AuthorList.parse("Jane Doe and John Smith");
+        long hitCount = AuthorList.getCacheStats().hitCount();
+
+        AuthorList.parse("Jane Doe and John Smith");
+
+        assertEquals(hitCount + 1, AuthorList.getCacheStats().hitCount());
+    }
+
     @Test
     public void parseCachesOneLatexFreeAuthor() {
         // Test caching in authorCache.
@@ -1,8 +1,12 @@
 package org.jabref.model.groups;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
+import javafx.collections.ObservableList;
+
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
 
@@ -32,6 +36,29 @@ class AutomaticKeywordGroupTest {
         assertEquals(expected, keywordsGroup.createSubgroups(entry));
     }
 
+    @Test
+    void createSubgroupsOfDatabaseCountsEntriesOfSubgroups() {
+        AutomaticKeywordGroup keywordsGroup = new AutomaticKeywordGroup("Keywords", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, ',', '>');
+        BibEntry entryOne = new BibEntry().withField(StandardField.KEYWORDS, "A > B, C");
+        BibEntry entryTwo = new BibEntry().withField(StandardField.KEYWORDS, "A, A > B");
+        BibDatabase database = new BibDatabase(List.of(entryOne, entryTwo, new BibEntry()));
+        GroupMembershipIndex index = GroupMembershipIndex.of(database);
+
+        ObservableList<GroupTreeNode> subgroups = keywordsGroup.createSubgroups(database);
+
+        assertEquals(List.of("A", "C"), subgroups.stream().map(GroupTreeNode::getName).toList());
+        GroupTreeNode groupA = subgroups.get(0);
+        GroupTreeNode groupB = groupA.getChildren().get(0);
+        for (GroupTreeNode node : List.of(groupA, groupB, subgroups.get(1))) {
+            assertEquals(node.findMatches(database).size(), index.getNumberOfMatches(node));
+        }
+
+        entryOne.setField(StandardField.KEYWORDS, "C");
+
+        assertEquals(1, index.getNumberOfMatches(groupB));
+        assertEquals(List.of(entryTwo), index.findMatches(groupA));
+    }
+
     private Set<GroupTreeNode> createIncludingKeywordsSubgroup() {
         Set<GroupTreeNode> expectedKeywordsSubgroup = new HashSet<>();
         expectedKeywordsSubgroup.add(GroupTreeNode.fromGroup(new WordKeywordGroup("A", GroupHierarchyType.INCLUDING, StandardField.KEYWORDS, "A", true, ',', true)));
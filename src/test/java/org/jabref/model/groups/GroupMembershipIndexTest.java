@@ -0,0 +1,188 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javafx.collections.ListChangeListener;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class GroupMembershipIndexTest {
+
+    private BibDatabase database;
+    private GroupMembershipIndex index;
+    private GroupTreeNode root;
+    private GroupTreeNode keywordNode;
+    private GroupTreeNode explicitNode;
+    private BibEntry first;
+    private BibEntry second;
+
+    @BeforeEach
+    void setUp() {
+        first = new BibEntry().withField(StandardField.KEYWORDS, "java").withField(StandardField.GROUPS, "Explicit");
+        second = new BibEntry().withField(StandardField.KEYWORDS, "java, kotlin");
+        database = new BibDatabase(List.of(first, second, new BibEntry()));
+        index = GroupMembershipIndex.of(database);
+
+        root = GroupTreeNode.fromGroup(new AllEntriesGroup("All entries"));
+        keywordNode = root.addSubgroup(new WordKeywordGroup("Java", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "java", false, ',', false));
+        explicitNode = keywordNode.addSubgroup(new ExplicitGroup("Explicit", GroupHierarchyType.INDEPENDENT, ','));
+    }
+
+    @Test
+    void indexIsSharedPerDatabase() {
+        assertSame(index, GroupMembershipIndex.of(database));
+    }
+
+    @Test
+    void countsAreSameAsFindMatches() {
+        for (GroupTreeNode node : List.of(root, keywordNode, explicitNode)) {
+            assertEquals(node.findMatches(database).size(), index.getNumberOfMatches(node));
+        }
+    }
+
+    @Test
+    void addedEntryIsMatched() {
+        index.getNumberOfMatches(keywordNode);
+
+        database.insertEntry(new BibEntry().withField(StandardField.KEYWORDS, "java"));
+
+        assertEquals(3, index.getNumberOfMatches(keywordNode));
+        assertEquals(4, index.getNumberOfMatches(root));
+    }
+
+    @Test
+    void removedEntryIsNotMatched() {
+        index.getNumberOfMatches(keywordNode);
+
+        database.removeEntry(second);
+
+        assertEquals(List.of(first), index.findMatches(keywordNode));
+    }
+
+    @Test
+    void changedFieldUpdatesMatches() {
+        index.getNumberOfMatches(keywordNode);
+        index.getNumberOfMatches(explicitNode);
+
+        first.setField(StandardField.KEYWORDS, "python");
+        second.setField(StandardField.GROUPS, "Explicit");
+
+        assertEquals(List.of(second), index.findMatches(keywordNode));
+        assertEquals(2, index.getNumberOfMatches(explicitNode));
+    }
+
+    @Test
+    void hierarchicalContextIsSameAsSearchMatcher() {
+        database.insertEntry(new BibEntry().withField(StandardField.GROUPS, "Explicit"));
+        GroupTreeNode including = root.addSubgroup(new WordKeywordGroup("Including", GroupHierarchyType.INCLUDING, StandardField.KEYWORDS, "java", false, ',', false));
+        including.addSubgroup(new ExplicitGroup("Explicit", GroupHierarchyType.INDEPENDENT, ','));
+        GroupTreeNode refining = keywordNode.addSubgroup(new ExplicitGroup("Explicit", GroupHierarchyType.REFINING, ','));
+
+        assertEquals(new HashSet<>(including.findMatches(database)), new HashSet<>(index.findMatches(including)));
+        assertEquals(3, index.getNumberOfMatches(including));
+        assertEquals(List.of(first), index.findMatches(refining));
+    }
+
+    @Test
+    void matchingGroupsAreSameAsInGroupTree() {
+        for (BibEntry entry : database.getEntries()) {
+            assertEquals(root.getMatchingGroups(entry), index.getMatchingGroups(root, entry));
+        }
+    }
+
+    @Test
+    void matchingGroupsOfIndexedGroupsAreSameAsInGroupTree() {
+        index.getNumberOfMatches(root);
+        index.getNumberOfMatches(keywordNode);
+        index.getNumberOfMatches(explicitNode);
+
+        for (BibEntry entry : database.getEntries()) {
+            assertEquals(root.getMatchingGroups(entry), index.getMatchingGroups(root, entry));
+        }
+    }
+
+    @Test
+    void matchingGroupsOfEntryChangedButNotIndexedYetAreUpToDate() {
+        index.getNumberOfMatches(keywordNode);
+        index.getNumberOfMatches(explicitNode);
+        List<List<GroupTreeNode>> matchingGroups = new ArrayList<>();
+        // The database informs its list listeners about the change before the index learns about it
+        database.getEntries().addListener((ListChangeListener<BibEntry>) change -> matchingGroups.add(index.getMatchingGroups(root, second)));
+
+        second.setField(StandardField.GROUPS, "Explicit");
+
+        assertEquals(List.of(List.of(root, keywordNode, explicitNode)), matchingGroups);
+    }
+
+    @Test
+    void groupsAreIndexedWithChangesDuringIndexing() {
+        GroupTreeNode slowNode = root.addSubgroup(new WordKeywordGroup("Java", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "java", false, ',', false) {
+            @Override
+            public boolean contains(BibEntry entry) {
+                if (entry == second) {
+                    // Changes an entry already checked while the group is indexed
+                    first.setField(StandardField.KEYWORDS, "python");
+                }
+                return super.contains(entry);
+            }
+        });
+
+        assertEquals(List.of(second), index.findMatches(slowNode));
+    }
+
+    @Test
+    void putMatchesChecksEntriesChangedSinceSnapshot() {
+        GroupMembershipIndex.EntriesSnapshot snapshot = index.getEntriesSnapshot();
+        WordKeywordGroup kotlinGroup = new WordKeywordGroup("Kotlin", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "kotlin", false, ',', false);
+
+        first.setField(StandardField.KEYWORDS, "kotlin");
+        index.putMatches(Map.of(kotlinGroup, List.of(second)), snapshot);
+
+        assertEquals(Set.of(first, second), new HashSet<>(index.findMatches(new GroupTreeNode(kotlinGroup))));
+    }
+
+    @Test
+    void findMatchesOfSeveralGroups() {
+        assertEquals(List.of(first), index.findMatches(List.of(keywordNode, explicitNode), true));
+        assertEquals(List.of(first, second), index.findMatches(List.of(keywordNode, explicitNode), false));
+    }
+
+    @Test
+    void listenerIsNotifiedOnChangedMatches() {
+        index.getNumberOfMatches(keywordNode);
+        AtomicInteger notifications = new AtomicInteger();
+        Runnable listener = notifications::incrementAndGet;
+        index.addListener(keywordNode, listener);
+
+        second.setField(StandardField.KEYWORDS, "kotlin");
+
+        assertEquals(1, notifications.get());
+    }
+
+    @Test
+    void listenerIsNotNotifiedIfMatchesDidNotChange() {
+        index.getNumberOfMatches(keywordNode);
+        index.getNumberOfMatches(explicitNode);
+        AtomicInteger notifications = new AtomicInteger();
+        Runnable listener = notifications::incrementAndGet;
+        index.addListener(explicitNode, listener);
+
+        second.setField(StandardField.KEYWORDS, "kotlin");
+        first.setField(StandardField.KEYWORDS, "java, python");
+
+        assertEquals(0, notifications.get());
+    }
+}
@@ -0,0 +1,148 @@
+package org.jabref.model.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EntryTokenIndexTest {
+
+    private BibDatabase database;
+    private BibEntry shields;
+    private BibEntry miller;
+    private EntryTokenIndex index;
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase();
+        shields = new BibEntry(StandardEntryType.InCollection)
+                .withCitationKey("shields01")
+                .withField(StandardField.TITLE, "Marine finfish larviculture in Europe")
+                .withField(StandardField.AUTHOR, "Kevin Shields");
+        miller = new BibEntry(StandardEntryType.Article)
+                .withCitationKey("miller")
+                .withField(StandardField.TITLE, "On the {\\\"U}bersicht of Things")
+                .withField(StandardField.AUTHOR, "Alice Miller");
+        database.insertEntry(shields);
+        database.insertEntry(miller);
+        index = new EntryTokenIndex(database);
+    }
+
+    @Test
+    void candidatesContainEntriesWithSubstringOfToken() {
+        EntryTokenIndex.Candidates candidates = index.getCandidates("ARVI").get();
+
+        assertTrue(candidates.contains(shields));
+        assertFalse(candidates.contains(miller));
+    }
+
+    @Test
+    void candidatesUseLatexFreeFieldValues() {
+        EntryTokenIndex.Candidates candidates = index.getCandidates("übersicht").get();
+
+        assertFalse(candidates.contains(shields));
+        assertTrue(candidates.contains(miller));
+    }
+
+    @Test
+    void candidatesRequireAllPartsOfText() {
+        EntryTokenIndex.Candidates candidates = index.getCandidates("marine miller").get();
+
+        assertFalse(candidates.contains(shields));
+        assertFalse(candidates.contains(miller));
+    }
+
+    @Test
+    void candidatesOfTextShorterThanGramsContainEntriesWithSubstringOfToken() {
+        EntryTokenIndex.Candidates candidates = index.getCandidates("ll").get();
+
+        assertFalse(candidates.contains(shields));
+        assertTrue(candidates.contains(miller));
+    }
+
+    @Test
+    void blankTextDoesNotRestrictCandidates() {
+        assertEquals(Optional.empty(), index.getCandidates("  "));
+    }
+
+    @Test
+    void addedEntryIsIndexed() {
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "Deep larviculture");
+        database.insertEntry(entry);
+
+        assertTrue(index.getCandidates("larviculture").get().contains(entry));
+    }
+
+    @Test
+    void changedFieldIsIndexed() {
+        miller.setField(StandardField.TITLE, "Larviculture");
+
+        assertTrue(index.getCandidates("larviculture").get().contains(miller));
+        assertFalse(index.getCandidates("things").get().contains(miller));
+    }
+
+    @Test
+    void entryChangedAfterComputingCandidatesIsCandidate() {
+        EntryTokenIndex.Candidates candidates = index.getCandidates("larviculture").get();
+
+        miller.setField(StandardField.TITLE, "Larviculture");
+
+        assertTrue(candidates.contains(miller));
+    }
+
+    @Test
+    void entryChangedButNotIndexedYetIsCandidate() {
+        // Listeners of the entry list are notified before the index learns about the change
+        List<Boolean> isCandidateWhenNotified = new ArrayList<>();
+        ObservableList<BibEntry> entries = database.getEntries();
+        entries.addListener((ListChangeListener<BibEntry>) change ->
+                isCandidateWhenNotified.add(index.getCandidates("larviculture").get().contains(miller)));
+
+        miller.setField(StandardField.TITLE, "Larviculture");
+
+        assertFalse(isCandidateWhenNotified.isEmpty());
+        assertFalse(isCandidateWhenNotified.contains(false));
+    }
+
+    @Test
+    void removedEntryIsNoCandidate() {
+        database.removeEntry(shields);
+
+        assertFalse(index.getCandidates("larviculture").get().contains(shields));
+    }
+
+    @Test
+    void shutdownIndexReturnsNoCandidates() {
+        EntryTokenIndex.Candidates candidates = index.getCandidates("larviculture").get();
+
+        index.shutdown();
+
+        assertTrue(index.isStopped());
+        assertEquals(Optional.empty(), index.getCandidates("larviculture"));
+        assertTrue(candidates.contains(miller));
+    }
+
+    @Test
+    void tokenIndexOfDatabaseIsBuiltAgainAfterShutdown() {
+        EntryTokenIndex first = database.getTokenIndex().get();
+
+        database.shutdownTokenIndex();
+
+        assertTrue(first.isStopped());
+        assertTrue(database.getTokenIndex().get().getCandidates("larviculture").get().contains(shields));
+    }
+}
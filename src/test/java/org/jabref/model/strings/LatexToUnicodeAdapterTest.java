@@ -0,0 +1,40 @@
+package org.jabref.model.strings;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LatexToUnicodeAdapterTest {
+
+    @Test
+    void plainTextIsKeptWithoutParsing() {
+        long requestCount = LatexToUnicodeAdapter.getCacheStats().requestCount();
+
+        assertEquals("Journal of Applied Physics: Part A (2001)", LatexToUnicodeAdapter.format("Journal of Applied Physics: Part A (2001)"));
+        assertEquals("Jean-Paul Müller", LatexToUnicodeAdapter.format("Jean-Paul Müller"));
+        assertEquals(requestCount, LatexToUnicodeAdapter.getCacheStats().requestCount());
+    }
+
+    @Test
+    void plainTextIsNormalized() {
+        assertEquals("Müller", LatexToUnicodeAdapter.format("Mu\u0308ller"));
+    }
+
+    @Test
+    void textWithLatexSpecialCharactersIsConverted() {
+        assertEquals("Müller", LatexToUnicodeAdapter.format("M{\\\"u}ller"));
+        assertEquals("a b", LatexToUnicodeAdapter.format("a~b"));
+    }
+
+    @Test
+    void repeatedConversionIsCached() {
+        String latex = "Proceedings of the {IEEE} Conference on G{\\\"o}del";
+        Optional<String> expected = LatexToUnicodeAdapter.parse(latex);
+        long hitCount = LatexToUnicodeAdapter.getCacheStats().hitCount();
+
+        assertEquals(expected, LatexToUnicodeAdapter.parse(latex));
+        assertEquals(hitCount + 1, LatexToUnicodeAdapter.getCacheStats().hitCount());
+    }
+}